@@ -1,22 +1,28 @@
 package com.automation.framework.core.auth;
 
 import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.factory.OtpSourceFactory;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.config.EncoderConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.interfaces.OtpSourceInterface;
+import com.automation.framework.core.jfr.AuthEvent;
 import com.automation.framework.core.logging.ApiLogger;
+import com.automation.framework.core.metrics.FrameworkMetrics;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AuthenticationManager handles OAuth authentication flow with OTP verification
@@ -30,12 +36,33 @@ public class AuthenticationManager {
     private final TokenStorage tokenStorage;
     private RedisManager redisManager; // Lazy initialization
     private final ApiConfig apiConfig;
+    private final OtpSourceInterface otpSource;
+    private final String emailSendOtpUrl;
+    private final String mobileSendOtpUrl;
+    private final String verifyOtpUrl;
+    private final Map<String, AuthRequestSpecs> requestSpecs = new ConcurrentHashMap<>();
+    
+    // OTP arrival polling configuration keys
+    private static final String PROP_OTP_WAIT_INITIAL_MS = "auth.otp.wait.initial.ms";
+    private static final String PROP_OTP_WAIT_MAX_INTERVAL_MS = "auth.otp.wait.max.interval.ms";
+    private static final String PROP_OTP_WAIT_TIMEOUT_MS = "auth.otp.wait.timeout.ms";
+
+    // Token storage configuration keys
+    private static final String PROP_TOKEN_STORAGE_MAX_ENTRIES = "auth.token.storage.max.entries";
+    private static final String PROP_AUTH_TOKEN_EXPIRY_HOURS = "auth.token.expiry.hours";
+    
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
     
     public AuthenticationManager(String baseUrl) {
         this.baseUrl = baseUrl;
+        this.emailSendOtpUrl = baseUrl + "/api/v4/oauth/login/email/send-otp";
+        this.mobileSendOtpUrl = baseUrl + "/api/v4/oauth/dual/mobile/send-otp";
+        this.verifyOtpUrl = baseUrl + "/api/v4/oauth/dual/mobile/verify-otp";
         this.headerManager = new HeaderManager();
-        this.tokenStorage = new TokenStorage();
         this.apiConfig = new ApiConfig();
+        this.tokenStorage = new TokenStorage(apiConfig.getIntProperty(PROP_TOKEN_STORAGE_MAX_ENTRIES, 10000),
+                apiConfig.getIntProperty(PROP_AUTH_TOKEN_EXPIRY_HOURS, 24) * 60 * 60 * 1000L);
+        this.otpSource = OtpSourceFactory.createOtpSource(apiConfig);
         // RedisManager will be initialized only when needed
     }
     
@@ -90,46 +117,27 @@ public class AuthenticationManager {
      */
     public Response sendOtp(String loginId, String clientId, String deviceId) {
         Long deviceTime = System.currentTimeMillis();
-        
-        // Build headers
-        Map<String, String> headers = headerManager.getOtpHeaders(clientId, deviceId, deviceTime);
+        boolean emailLogin = loginId.contains("@");
         
         // Generate SHA512 token
         String token = generateSHA512Token(loginId, clientId, deviceId, deviceTime);
         
         // Determine API endpoint
-        String apiPath = loginId.contains("@") 
-            ? baseUrl + "/api/v4/oauth/login/email/send-otp"
-            : baseUrl + "/api/v4/oauth/dual/mobile/send-otp";
-            
-        // Build form parameters
-        Map<String, String> formParams = new HashMap<>();
-        formParams.put("token", token);
-        formParams.put("sixDigitOTP", "true");
-        
-        if (loginId.contains("@")) {
-            formParams.put("email", loginId);
-        } else {
-            formParams.put("prefix", "+91");
-            formParams.put("phone", loginId);
-            formParams.put("resendOnCall", "false");
-        }
-        
-        // Build request
-        RequestSpecBuilder builder = new RequestSpecBuilder();
-        builder.addHeaders(headers);
-        builder.addFormParams(formParams);
-        RequestSpecification requestSpec = builder.build();
+        String apiPath = emailLogin ? emailSendOtpUrl : mobileSendOtpUrl;
+        AuthRequestSpecs specs = getRequestSpecs(clientId);
         
         logger.logDebug("Sending OTP to: " + loginId + " using endpoint: " + apiPath);
         
-        // Execute request
+        // Execute request - only device headers, token and loginId vary per call
+        AuthEvent authEvent = new AuthEvent();
+        authEvent.begin();
         Response response = RestAssured.given()
-                .config(RestAssured.config().encoderConfig(
-                        EncoderConfig.encoderConfig().encodeContentTypeAs("x-www-form-urlencoded", ContentType.URLENC)))
-                .contentType("application/x-www-form-urlencoded")
-                .spec(requestSpec)
+                .spec(emailLogin ? specs.emailSendOtp : specs.mobileSendOtp)
+                .headers(headerManager.getOtpRequestHeaders(deviceId, deviceTime))
+                .formParam("token", token)
+                .formParam(emailLogin ? "email" : "phone", loginId)
                 .post(apiPath);
+        authEvent.complete(AuthEvent.STAGE_OTP_SEND, clientId, response.getStatusCode() == 200);
                 
         logger.logDebug("OTP response: " + response.asString());
         return response;
@@ -139,52 +147,98 @@ public class AuthenticationManager {
      * Login with OTP
      */
     public Response login(String loginId, String otp, String clientId, String deviceId) {
-        // Build headers
-        Map<String, String> headers = headerManager.getLoginHeaders(clientId, deviceId);
-        
-        // Build form parameters
-        Map<String, String> formParams = new HashMap<>();
-        String token = "";
-        
+        String token;
         if (loginId.contains("@") && loginId.contains(".com")) {
-            formParams.put("grant_type", "emotp");
             token = Base64.getEncoder().encodeToString((loginId + "~" + otp.trim()).getBytes());
         } else {
-            formParams.put("grant_type", "photp");
             token = Base64.getEncoder().encodeToString((loginId + "~" + "+91" + "~" + otp.trim()).getBytes());
         }
         
-        // Set grant_type again (following the working implementation pattern)
-        if (loginId.contains("@") || loginId.contains(".com")) {
-            formParams.put("grant_type", "emotp");
-        } else {
-            formParams.put("grant_type", "photp");
-        }
+        // Grant type follows the working implementation pattern (either marker means email OTP)
+        String grantType = loginId.contains("@") || loginId.contains(".com") ? "emotp" : "photp";
         
-        formParams.put("token", token);
-        formParams.put("sixDigitOTP", "true");
+        logger.logDebug("Logging in user: " + loginId + " with endpoint: " + verifyOtpUrl);
         
-        // API endpoint
-        String apiPath = baseUrl + "/api/v4/oauth/dual/mobile/verify-otp";
-        
-        // Build request
-        RequestSpecBuilder builder = new RequestSpecBuilder();
-        builder.addHeaders(headers);
-        builder.addFormParams(formParams);
-        RequestSpecification requestSpec = builder.build();
-        
-        logger.logDebug("Logging in user: " + loginId + " with endpoint: " + apiPath);
-        
-        // Execute request
+        // Execute request - only device headers, grant type and token vary per call
+        AuthEvent authEvent = new AuthEvent();
+        authEvent.begin();
         Response response = RestAssured.given()
-                .contentType("application/x-www-form-urlencoded")
-                .spec(requestSpec)
-                .post(apiPath);
+                .spec(getRequestSpecs(clientId).verifyOtp)
+                .headers(headerManager.getLoginRequestHeaders(clientId, deviceId))
+                .formParam("grant_type", grantType)
+                .formParam("token", token)
+                .post(verifyOtpUrl);
+        authEvent.complete(AuthEvent.STAGE_LOGIN, clientId, response.getStatusCode() == 200);
                 
         logger.logDebug("Login response: " + response.asString());
         return response;
     }
     
+    /**
+     * Base request specifications of a client, shared by all logins of that client
+     * The specs capture the global RestAssured config, so they are rebuilt once it is replaced
+     * (e.g. timeouts, SSL or proxy set by the suite after the first login).
+     */
+    private AuthRequestSpecs getRequestSpecs(String clientId) {
+        RestAssuredConfig baseConfig = RestAssured.config();
+        AuthRequestSpecs specs = requestSpecs.computeIfAbsent(clientId, id -> buildRequestSpecs(id, baseConfig));
+        if (specs.baseConfig != baseConfig) {
+            specs = requestSpecs.compute(clientId, (id, current) ->
+                    current != null && current.baseConfig == baseConfig ? current : buildRequestSpecs(id, baseConfig));
+        }
+        return specs;
+    }
+    
+    private AuthRequestSpecs buildRequestSpecs(String clientId, RestAssuredConfig baseConfig) {
+        // Headers file is read once per client here instead of on every login
+        Map<String, String> otpHeaders = headerManager.getOtpBaseHeaders(clientId);
+        Map<String, String> loginHeaders = headerManager.getLoginBaseHeaders(clientId);
+        RestAssuredConfig otpConfig = baseConfig.encoderConfig(
+                EncoderConfig.encoderConfig().encodeContentTypeAs("x-www-form-urlencoded", ContentType.URLENC));
+        
+        RequestSpecification emailSendOtp = new RequestSpecBuilder()
+                .setConfig(otpConfig)
+                .setContentType(FORM_CONTENT_TYPE)
+                .addHeaders(otpHeaders)
+                .addFormParam("sixDigitOTP", "true")
+                .build();
+        RequestSpecification mobileSendOtp = new RequestSpecBuilder()
+                .setConfig(otpConfig)
+                .setContentType(FORM_CONTENT_TYPE)
+                .addHeaders(otpHeaders)
+                .addFormParam("sixDigitOTP", "true")
+                .addFormParam("prefix", "+91")
+                .addFormParam("resendOnCall", "false")
+                .build();
+        RequestSpecification verifyOtp = new RequestSpecBuilder()
+                .setConfig(baseConfig)
+                .setContentType(FORM_CONTENT_TYPE)
+                .addHeaders(loginHeaders)
+                .addFormParam("sixDigitOTP", "true")
+                .build();
+        
+        logger.logDebug("Built auth request specifications for client: " + clientId);
+        return new AuthRequestSpecs(baseConfig, emailSendOtp, mobileSendOtp, verifyOtp);
+    }
+    
+    /**
+     * Immutable per-client base specs - never modified after construction, merged into each request
+     */
+    private static final class AuthRequestSpecs {
+        private final RestAssuredConfig baseConfig;
+        private final RequestSpecification emailSendOtp;
+        private final RequestSpecification mobileSendOtp;
+        private final RequestSpecification verifyOtp;
+        
+        private AuthRequestSpecs(RestAssuredConfig baseConfig, RequestSpecification emailSendOtp,
+                                 RequestSpecification mobileSendOtp, RequestSpecification verifyOtp) {
+            this.baseConfig = baseConfig;
+            this.emailSendOtp = emailSendOtp;
+            this.mobileSendOtp = mobileSendOtp;
+            this.verifyOtp = verifyOtp;
+        }
+    }
+    
     /**
      * Get stored authentication token
      */
@@ -192,6 +246,13 @@ public class AuthenticationManager {
         return tokenStorage.getAuthHeader(loginId);
     }
     
+    /**
+     * Restore a previously issued token (e.g. from the persistent token cache) without logging in
+     */
+    public void restoreToken(String loginId, String accessToken, String cookie, long issuedAt) {
+        tokenStorage.storeToken(loginId, accessToken, cookie, issuedAt);
+    }
+    
     /**
      * Get stored cookie
      */
@@ -244,33 +305,35 @@ public class AuthenticationManager {
     }
     
     /**
-     * Get OTP using Redis or fallback to mock value
+     * Get OTP from the configured OTP source (auth.otp.source) or fallback to mock value
      * Follows the same hybrid approach as the original framework
      */
     public String getOtp(String loginId) {
-        // Check if mock OTP is enabled
-        boolean useMockOtp = Boolean.parseBoolean(apiConfig.getProperty("auth.otp.mock", "false"));
-        
-        if (useMockOtp) {
-            String mockOtp = apiConfig.getProperty("auth.otp.mock.value", "123456");
+        // Mock source needs no lookup or fallback handling
+        if (otpSource instanceof MockOtpSource) {
+            String mockOtp = otpSource.getOtp(loginId);
             logger.logDebug("Using mock OTP for testing: " + mockOtp + " for loginId: " + loginId);
             return mockOtp;
         }
         
-        // Try to get OTP from Redis
+        // Try to get OTP from the configured source
+        AuthEvent authEvent = new AuthEvent();
+        authEvent.begin();
         try {
-            String otp = getRedisManager().getOtp(loginId);
+            String otp = otpSource.getOtp(loginId);
+            authEvent.complete(AuthEvent.STAGE_REDIS_FETCH, null, otp != null && !otp.trim().isEmpty());
             if (otp != null && !otp.trim().isEmpty()) {
-                logger.logInfo("Retrieved OTP from Redis for loginId: " + loginId);
+                logger.logInfo("Retrieved OTP from " + otpSource.getClass().getSimpleName() + " for loginId: " + loginId);
                 return otp;
             } else {
-                logger.logWarning("OTP not found in Redis for loginId: " + loginId + ", falling back to mock value");
+                logger.logWarning("OTP not found for loginId: " + loginId + ", falling back to mock value");
             }
         } catch (Exception e) {
-            logger.logError("Error retrieving OTP from Redis for loginId: " + loginId + ", falling back to mock value", e);
+            authEvent.complete(AuthEvent.STAGE_REDIS_FETCH, null, false);
+            logger.logError("Error retrieving OTP for loginId: " + loginId + ", falling back to mock value", e);
         }
         
-        // Fallback to mock OTP if Redis fails
+        // Fallback to mock OTP if the source fails
         String fallbackOtp = apiConfig.getProperty("auth.otp.mock.value", "123456");
         logger.logWarning("Using fallback mock OTP: " + fallbackOtp + " for loginId: " + loginId);
         return fallbackOtp;
@@ -282,17 +345,20 @@ public class AuthenticationManager {
      */
     public String generateAndGetOtp(String loginId, String clientId, String deviceId) {
         try {
-            // Step 1: Trigger OTP generation via API
+            boolean pollSource = otpSource.supportsPolling();
+            
+            // Step 1: Remember the current OTP record so a stale OTP is not mistaken for the new one
+            String previousRecord = currentOtpRecord(loginId);
+            
+            // Step 2: Trigger OTP generation via API
             Response otpResponse = sendOtp(loginId, clientId, deviceId);
             if (otpResponse.getStatusCode() != 200) {
                 logger.logError("Failed to trigger OTP generation. Status: " + otpResponse.getStatusCode() + ", Response: " + otpResponse.asString(), null);
                 return getOtp(loginId); // Fallback to Redis/mock
             }
-            // Step 2: Wait a moment for Redis to be updated (backend processing)
-            Thread.sleep(1000);
             
-            // Step 3: Retrieve OTP from Redis
-            String otp = getOtp(loginId);
+            // Step 3: Retrieve OTP as soon as the backend has written it
+            String otp = pollSource ? waitForOtp(loginId, previousRecord) : getOtp(loginId);
             logger.logInfo("Generated and retrieved OTP for loginId: " + loginId);
             return otp;
             
@@ -302,6 +368,86 @@ public class AuthenticationManager {
         }
     }
     
+    /**
+     * Current OTP record of a user, taken before sending so a stale OTP is not mistaken for the new one
+     * Returns null when the OTP source cannot be polled.
+     */
+    public String currentOtpRecord(String loginId) {
+        return otpSource.supportsPolling() ? otpSource.getOtpRecord(loginId) : null;
+    }
+    
+    /**
+     * Wait for the OTP issued after previousRecord was seen, or null if none arrived before the deadline
+     * A resend inside the validity window may re-issue an identical record that cannot be told apart from
+     * the old one; an unchanged record is only used as a last resort once the deadline has passed, so a
+     * slow backend write is never answered with the previous OTP.
+     * No mock fallback - load scenarios use this to see OTP retrieval failures as such.
+     */
+    public String awaitOtp(String loginId, String previousRecord) throws InterruptedException {
+        if (!otpSource.supportsPolling()) {
+            return otpSource.getOtp(loginId);
+        }
+        long initialIntervalMs = apiConfig.getIntProperty(PROP_OTP_WAIT_INITIAL_MS, 50);
+        long maxIntervalMs = apiConfig.getIntProperty(PROP_OTP_WAIT_MAX_INTERVAL_MS, 400);
+        long timeoutNanos = apiConfig.getIntProperty(PROP_OTP_WAIT_TIMEOUT_MS, 5000) * 1_000_000L;
+        
+        AuthEvent authEvent = new AuthEvent();
+        authEvent.begin();
+        long start = System.nanoTime();
+        long intervalMs = initialIntervalMs;
+        String record = null;
+        int polls = 0;
+        
+        while (true) {
+            record = otpSource.getOtpRecord(loginId);
+            polls++;
+            if (record != null && !record.equals(previousRecord)) {
+                String otp = otpSource.extractOtp(record);
+                if (otp != null) {
+                    long waitedNanos = System.nanoTime() - start;
+                    FrameworkMetrics.recordOtpWait(true, waitedNanos);
+                    authEvent.complete(AuthEvent.STAGE_REDIS_FETCH, null, true);
+                    logger.logDebug("OTP arrived for loginId: " + loginId + " after " + (waitedNanos / 1_000_000)
+                                    + " ms (" + polls + " polls)");
+                    return otp;
+                }
+            }
+            
+            long remainingMs = (timeoutNanos - (System.nanoTime() - start)) / 1_000_000;
+            if (remainingMs <= 0) {
+                break;
+            }
+            Thread.sleep(Math.min(intervalMs, remainingMs));
+            intervalMs = Math.min(intervalMs * 2, maxIntervalMs);
+        }
+        
+        // Deadline passed with the record unchanged - most likely re-issued identically, so use it
+        String unchangedOtp = record != null ? otpSource.extractOtp(record) : null;
+        if (unchangedOtp != null) {
+            FrameworkMetrics.recordOtpWait(true, System.nanoTime() - start);
+            authEvent.complete(AuthEvent.STAGE_REDIS_FETCH, null, true);
+            logger.logWarning("OTP record unchanged for loginId: " + loginId + " at the deadline, using it as re-issued");
+            return unchangedOtp;
+        }
+        FrameworkMetrics.recordOtpWait(false, System.nanoTime() - start);
+        authEvent.complete(AuthEvent.STAGE_REDIS_FETCH, null, false);
+        return null;
+    }
+    
+    /**
+     * Poll the OTP source for a new OTP record, falling back to getOtp if it does not arrive in time
+     * Replaces a fixed sleep: returns as soon as the backend has written the OTP.
+     * @param previousRecord - OTP record seen before sending, ignored if still present
+     */
+    private String waitForOtp(String loginId, String previousRecord) throws InterruptedException {
+        String otp = awaitOtp(loginId, previousRecord);
+        if (otp != null) {
+            return otp;
+        }
+        logger.logWarning("OTP did not arrive for loginId: " + loginId + " within deadline");
+        return getOtp(loginId);
+    }
+    
     /**
      * Clean up OTP rate limit keys to avoid throttling during testing
      */
@@ -314,6 +460,18 @@ public class AuthenticationManager {
         }
     }
     
+    /**
+     * Clean up OTP rate limit keys of several users in one Redis keyspace pass
+     */
+    public void cleanupOtpLimits(Collection<String> loginIds) {
+        try {
+            long deleted = getRedisManager().deleteOtpLimits(loginIds);
+            logger.logDebug("Cleaned up " + deleted + " OTP limit keys for " + loginIds.size() + " loginIds");
+        } catch (Exception e) {
+            logger.logWarning("Error cleaning up OTP limits for loginIds: " + loginIds);
+        }
+    }
+    
     /**
      * Check Redis connection health
      */
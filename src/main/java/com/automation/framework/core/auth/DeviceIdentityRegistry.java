@@ -0,0 +1,71 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DeviceIdentityRegistry assigns one stable device ID per session or virtual user
+ * The same ID is used for the OTP login and every later request of that session.
+ * With auth.device.seed set, IDs are derived from seed + session key so reruns reproduce them;
+ * a fixed auth.user.device.id is shared by all sessions as before.
+ */
+public class DeviceIdentityRegistry {
+    private static final LoggingInterface logger = new ApiLogger(DeviceIdentityRegistry.class);
+
+    private static final String PROP_AUTH_USER_DEVICE_ID = "auth.user.device.id";
+    private static final String PROP_DEVICE_SEED = "auth.device.seed";
+    private static final String AUTO_GENERATED = "auto-generated";
+
+    private static volatile DeviceIdentityRegistry instance;
+    private static final Object lock = new Object();
+
+    private final String fixedDeviceId;
+    private final String seed;
+    private final ConcurrentHashMap<String, String> deviceIds = new ConcurrentHashMap<>();
+
+    private DeviceIdentityRegistry() {
+        ApiConfig apiConfig = new ApiConfig();
+        String configured = apiConfig.getProperty(PROP_AUTH_USER_DEVICE_ID);
+        this.fixedDeviceId = configured == null || configured.trim().isEmpty() || AUTO_GENERATED.equals(configured.trim())
+                ? null : configured.trim();
+        String configuredSeed = System.getProperty(PROP_DEVICE_SEED, apiConfig.getProperty(PROP_DEVICE_SEED, ""));
+        this.seed = configuredSeed.trim().isEmpty() ? null : configuredSeed.trim();
+    }
+
+    /**
+     * Get shared registry instance
+     */
+    public static DeviceIdentityRegistry getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new DeviceIdentityRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Device ID of a session - created on first use and reused for the lifetime of the run
+     */
+    public String getDeviceId(String sessionKey) {
+        if (fixedDeviceId != null) {
+            return fixedDeviceId;
+        }
+        return deviceIds.computeIfAbsent(sessionKey, this::createDeviceId);
+    }
+
+    private String createDeviceId(String sessionKey) {
+        String deviceId = seed != null
+                ? UUID.nameUUIDFromBytes((seed + "|" + sessionKey).getBytes(StandardCharsets.UTF_8)).toString()
+                : AuthenticationManager.generateDeviceId();
+        logger.logDebug("Assigned device ID " + deviceId + " to session: " + sessionKey);
+        return deviceId;
+    }
+}
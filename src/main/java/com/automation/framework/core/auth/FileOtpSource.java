@@ -0,0 +1,71 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.interfaces.OtpSourceInterface;
+import com.automation.framework.core.logging.ApiLogger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * OTP source reading loginId=otp entries from a properties file (auth.otp.file)
+ * The file is re-read when its modification time changes, so an external process
+ * (mail/SMS bridge, another test harness) can write OTPs while the run is in progress.
+ */
+public class FileOtpSource implements OtpSourceInterface {
+    private static final LoggingInterface logger = new ApiLogger(FileOtpSource.class);
+
+    private final Path otpFile;
+    private volatile Properties otps = new Properties();
+    private volatile long loadedModifiedTime = -1;
+
+    public FileOtpSource(Path otpFile) {
+        this.otpFile = otpFile;
+    }
+
+    @Override
+    public String getOtp(String loginId) {
+        return extractOtp(getOtpRecord(loginId));
+    }
+
+    @Override
+    public boolean supportsPolling() {
+        return true;
+    }
+
+    @Override
+    public String getOtpRecord(String loginId) {
+        return currentOtps().getProperty(loginId);
+    }
+
+    @Override
+    public String extractOtp(String record) {
+        return record != null && !record.trim().isEmpty() ? record.trim() : null;
+    }
+
+    private Properties currentOtps() {
+        try {
+            long modifiedTime = Files.getLastModifiedTime(otpFile).toMillis();
+            if (modifiedTime != loadedModifiedTime) {
+                synchronized (this) {
+                    if (modifiedTime != loadedModifiedTime) {
+                        Properties loaded = new Properties();
+                        try (Reader reader = Files.newBufferedReader(otpFile, StandardCharsets.UTF_8)) {
+                            loaded.load(reader);
+                        }
+                        otps = loaded;
+                        loadedModifiedTime = modifiedTime;
+                        logger.logDebug("Loaded " + loaded.size() + " OTPs from file: " + otpFile);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.logWarning("Could not read OTP file: " + otpFile + " - " + e.getMessage());
+        }
+        return otps;
+    }
+}
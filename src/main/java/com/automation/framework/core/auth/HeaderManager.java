@@ -70,16 +70,31 @@ public class HeaderManager {
      * Get headers for OTP request
      */
     public Map<String, String> getOtpHeaders(String clientId, String deviceId, Long deviceTime) {
+        Map<String, String> headers = getOtpBaseHeaders(clientId);
+        headers.putAll(getOtpRequestHeaders(deviceId, deviceTime));
+
+        logger.logDebug("Built OTP headers for client: " + clientId + " with device: " + deviceId);
+        return headers;
+    }
+
+    /**
+     * Get the per-client part of the OTP headers (same for every request of the client)
+     */
+    public Map<String, String> getOtpBaseHeaders(String clientId) {
         Map<String, String> headers = getCommonHeaders(clientId);
+        headers.put("clientId", clientId);
+        headers.put("X-Requested-With", "XMLHttpRequest");
+        return headers;
+    }
 
-        // Add OTP-specific headers
+    /**
+     * Get the per-request part of the OTP headers
+     */
+    public Map<String, String> getOtpRequestHeaders(String deviceId, Long deviceTime) {
+        Map<String, String> headers = new HashMap<>();
         headers.put("deviceId", deviceId);
         headers.put("deviceTime", deviceTime.toString());
-        headers.put("clientId", clientId);
         headers.put("uuid", deviceId);
-        headers.put("X-Requested-With", "XMLHttpRequest");
-
-        logger.logDebug("Built OTP headers for client: " + clientId + " with device: " + deviceId);
         return headers;
     }
 
@@ -87,24 +102,40 @@ public class HeaderManager {
      * Get headers for login request
      */
     public Map<String, String> getLoginHeaders(String clientId, String deviceId) {
-        Map<String, String> headers = getCommonHeaders(clientId);
+        Map<String, String> headers = getLoginBaseHeaders(clientId);
+        headers.putAll(getLoginRequestHeaders(clientId, deviceId));
 
-        // Add login-specific headers
-        headers.put("deviceId", deviceId);
-        headers.put("requesttimestamp", String.valueOf(System.currentTimeMillis()));
+        logger.logDebug("Built login headers for client: " + clientId + " with device: " + deviceId);
+        return headers;
+    }
+
+    /**
+     * Get the per-client part of the login headers (same for every request of the client)
+     */
+    public Map<String, String> getLoginBaseHeaders(String clientId) {
+        Map<String, String> headers = getCommonHeaders(clientId);
         headers.put("X-Requested-With", "XMLHttpRequest");
 
         // Add mobile app specific headers for certain clients
         if (clientId.equalsIgnoreCase("iximatr")) {
-            UUID uuid = UUID.randomUUID();
             headers.put("appVersion", "431");
             headers.put("deviceOs", "Android");
             headers.put("deviceOsVersion", "22");
-            headers.put("uuid", uuid.toString());
             headers.put("Accept-Language", "en");
         }
+        return headers;
+    }
 
-        logger.logDebug("Built login headers for client: " + clientId + " with device: " + deviceId);
+    /**
+     * Get the per-request part of the login headers
+     */
+    public Map<String, String> getLoginRequestHeaders(String clientId, String deviceId) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("deviceId", deviceId);
+        headers.put("requesttimestamp", String.valueOf(System.currentTimeMillis()));
+        if (clientId.equalsIgnoreCase("iximatr")) {
+            headers.put("uuid", UUID.randomUUID().toString());
+        }
         return headers;
     }
 
@@ -140,9 +171,10 @@ public class HeaderManager {
 
         // Authentication token handling
         String authToken = null;
+        String sessionKey = SessionPool.getInstance().lease();
         try {
-            authToken = SessionAuthenticationManager.getInstance().getSessionAuthToken();
-            logger.logDebug("Using session-based authentication token");
+            authToken = SessionAuthenticationManager.getInstance().getSessionAuthToken(sessionKey);
+            logger.logDebug("Using session-based authentication token for session: " + sessionKey);
         } catch (Exception e) {
             logger.logWarning("Failed to get session auth token: " + e.getMessage());
             // Fallback to configured token
@@ -161,13 +193,19 @@ public class HeaderManager {
             headers.put("Authorization", authToken);
         }
 
+        // Session cookies (sapphire from login plus anything set by earlier responses)
+        String cookieHeader = SessionCookieJar.getInstance().getCookieHeader(sessionKey);
+        if (cookieHeader != null) {
+            headers.put("Cookie", cookieHeader);
+        }
+
         // Client identification headers
         String clientId = apiConfig.getProperty("auth.user.clientid");
         if (clientId != null) {
             headers.put("clientid", clientId);
         }
 
-        String deviceId = SessionAuthenticationManager.getInstance().getDeviceId();
+        String deviceId = SessionAuthenticationManager.getInstance().getDeviceId(sessionKey);
         if (deviceId != null) {
             headers.put("deviceid", deviceId);
         }
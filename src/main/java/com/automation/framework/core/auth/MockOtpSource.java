@@ -0,0 +1,34 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.interfaces.OtpSourceInterface;
+
+/**
+ * OTP source returning a fixed value (auth.otp.mock.value) for environments that accept it
+ */
+public class MockOtpSource implements OtpSourceInterface {
+    private final String mockOtp;
+
+    public MockOtpSource(String mockOtp) {
+        this.mockOtp = mockOtp;
+    }
+
+    @Override
+    public String getOtp(String loginId) {
+        return mockOtp;
+    }
+
+    @Override
+    public boolean supportsPolling() {
+        return false;
+    }
+
+    @Override
+    public String getOtpRecord(String loginId) {
+        return null;
+    }
+
+    @Override
+    public String extractOtp(String record) {
+        return record;
+    }
+}
@@ -0,0 +1,225 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PersistentTokenCache keeps login tokens on disk across JVM runs, encrypted with AES-GCM
+ * Entries are keyed by environment, clientId and loginId so short CI jobs can skip the OTP login
+ * while a previously issued token is still valid.
+ *
+ * Enable with auth.token.cache.enabled=true and provide the secret through the
+ * AUTH_TOKEN_CACHE_SECRET environment variable or -Dauth.token.cache.secret.
+ */
+public class PersistentTokenCache {
+    private static final LoggingInterface logger = new ApiLogger(PersistentTokenCache.class);
+
+    // Configuration keys for token cache properties
+    private static final String PROP_CACHE_ENABLED = "auth.token.cache.enabled";
+    private static final String PROP_CACHE_DIR = "auth.token.cache.dir";
+    private static final String PROP_CACHE_SECRET = "auth.token.cache.secret";
+    private static final String PROP_CACHE_MIN_REMAINING_MINUTES = "auth.token.cache.min.remaining.minutes";
+    private static final String ENV_CACHE_SECRET = "AUTH_TOKEN_CACHE_SECRET";
+
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final byte[] KEY_SALT = "api-automation-token-cache".getBytes(StandardCharsets.UTF_8);
+    private static final int KEY_ITERATIONS = 65536;
+
+    private final boolean enabled;
+    private final String environment;
+    private final Path cacheDir;
+    private final long minRemainingMs;
+    private final SecretKey secretKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PersistentTokenCache(ApiConfig apiConfig) {
+        this.environment = apiConfig.getEnvironment();
+        this.cacheDir = Paths.get(apiConfig.getProperty(PROP_CACHE_DIR,
+                System.getProperty("user.home") + "/.api-automation/token-cache"));
+        this.minRemainingMs = apiConfig.getIntProperty(PROP_CACHE_MIN_REMAINING_MINUTES, 60) * 60 * 1000L;
+
+        boolean requested = Boolean.parseBoolean(System.getProperty(PROP_CACHE_ENABLED,
+                String.valueOf(apiConfig.getBooleanProperty(PROP_CACHE_ENABLED, false))));
+        String secret = System.getProperty(PROP_CACHE_SECRET, System.getenv(ENV_CACHE_SECRET));
+        if (secret == null || secret.isEmpty()) {
+            secret = apiConfig.getProperty(PROP_CACHE_SECRET);
+        }
+
+        if (requested && (secret == null || secret.isEmpty())) {
+            logger.logWarning("Persistent token cache requested but no secret configured (" + ENV_CACHE_SECRET
+                              + ") - cache disabled");
+            requested = false;
+        }
+        this.secretKey = requested ? deriveKey(secret) : null;
+        this.enabled = requested && secretKey != null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Load a cached entry - returns null when missing, unreadable, for another identity or too close to expiry
+     */
+    public SessionAuthenticationManager.SessionAuthData load(String clientId, String loginId) {
+        if (!enabled) {
+            return null;
+        }
+        String cacheKey = cacheKey(clientId, loginId);
+        Path file = fileFor(cacheKey);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            Map<?, ?> entry = objectMapper.readValue(decrypt(Files.readAllBytes(file), cacheKey), Map.class);
+            if (!cacheKey.equals(entry.get("key"))) {
+                logger.logWarning("Discarding persisted token with mismatched identity: " + file);
+                return null;
+            }
+            SessionAuthenticationManager.SessionAuthData authData = new SessionAuthenticationManager.SessionAuthData(
+                    (String) entry.get("accessToken"),
+                    (String) entry.get("cookie"),
+                    ((Number) entry.get("timestamp")).longValue(),
+                    ((Number) entry.get("expiryDuration")).longValue());
+
+            if (authData.getAccessToken() == null || authData.getRemainingTime() < minRemainingMs) {
+                logger.logInfo("Persisted token for " + loginId + " is stale - a fresh login is required");
+                Files.deleteIfExists(file);
+                return null;
+            }
+            logger.logInfo("Loaded persisted token for " + loginId + " (" + clientId + "/" + environment + "), "
+                           + (authData.getRemainingTime() / 60000) + " minutes remaining");
+            return authData;
+
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            // Wrong secret, tampered or corrupt file - never fatal, just log in again
+            logger.logWarning("Ignoring unreadable persisted token " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Persist an entry atomically (temp file + move), readable only by the current user where supported
+     */
+    public void store(String clientId, String loginId, SessionAuthenticationManager.SessionAuthData authData) {
+        if (!enabled) {
+            return;
+        }
+        String cacheKey = cacheKey(clientId, loginId);
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("key", cacheKey);
+        entry.put("accessToken", authData.getAccessToken());
+        entry.put("cookie", authData.getCookie());
+        entry.put("timestamp", authData.getTimestamp());
+        entry.put("expiryDuration", authData.getExpiryDuration());
+
+        try {
+            Files.createDirectories(cacheDir);
+            Path target = fileFor(cacheKey);
+            Path temp = Files.createTempFile(cacheDir, "token", ".tmp");
+            restrictPermissions(temp);
+            Files.write(temp, encrypt(objectMapper.writeValueAsBytes(entry), cacheKey));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.logDebug("Persisted token for " + loginId + " to " + target);
+        } catch (IOException | GeneralSecurityException e) {
+            logger.logWarning("Failed to persist token for " + loginId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remove a cached entry (e.g. after the server rejected the token)
+     */
+    public void evict(String clientId, String loginId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(fileFor(cacheKey(clientId, loginId)));
+        } catch (IOException e) {
+            logger.logWarning("Failed to evict persisted token for " + loginId + ": " + e.getMessage());
+        }
+    }
+
+    private String cacheKey(String clientId, String loginId) {
+        return environment + "|" + clientId + "|" + loginId;
+    }
+
+    private Path fileFor(String cacheKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(cacheKey.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                name.append(String.format("%02x", hash[i]));
+            }
+            return cacheDir.resolve(name + ".token");
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private byte[] encrypt(byte[] plain, String cacheKey) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        // Bind ciphertext to its identity so files cannot be swapped between users
+        cipher.updateAAD(cacheKey.getBytes(StandardCharsets.UTF_8));
+        byte[] encrypted = cipher.doFinal(plain);
+        return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+    }
+
+    private byte[] decrypt(byte[] stored, String cacheKey) throws GeneralSecurityException {
+        if (stored.length <= IV_LENGTH) {
+            throw new GeneralSecurityException("Token cache file too short");
+        }
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BITS, stored, 0, IV_LENGTH));
+        cipher.updateAAD(cacheKey.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(stored, IV_LENGTH, stored.length - IV_LENGTH);
+    }
+
+    private static SecretKey deriveKey(String secret) {
+        try {
+            SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+            PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(), KEY_SALT, KEY_ITERATIONS, 256);
+            return new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
+        } catch (GeneralSecurityException e) {
+            logger.logError("Could not derive token cache key - cache disabled", e);
+            return null;
+        }
+    }
+
+    private static void restrictPermissions(Path file) {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            // Non-POSIX file system - rely on the cache directory location
+        }
+    }
+}
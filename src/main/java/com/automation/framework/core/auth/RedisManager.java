@@ -3,15 +3,33 @@ package com.automation.framework.core.auth;
 import com.automation.framework.core.config.ApiConfig;
 import com.automation.framework.core.interfaces.LoggingInterface;
 import com.automation.framework.core.logging.ApiLogger;
+import com.automation.framework.core.jfr.RedisOperationEvent;
+import com.automation.framework.core.metrics.FrameworkMetrics;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.JedisFactory;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+import org.apache.commons.pool2.PooledObject;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * RedisManager handles Redis connections and OTP retrieval for authentication
@@ -19,12 +37,34 @@ import java.util.Set;
  */
 public class RedisManager implements Closeable {
     private static final LoggingInterface logger = new ApiLogger(RedisManager.class);
-    private static RedisManager instance;
+    private static volatile RedisManager instance;
     private static final Object lock = new Object();
     
+    static {
+        // Gauges read the shared pool at scrape time
+        FrameworkMetrics.registerRedisPoolGauges(RedisManager::currentActiveConnections,
+                RedisManager::currentIdleConnections, RedisManager::currentWaiters);
+    }
+    
     private JedisPool jedisPool;
     private final ApiConfig apiConfig;
     
+    // OTP limit cleanup configuration keys - {loginId} in the match pattern is replaced per login
+    private static final String PROP_OTP_LIMIT_MATCH = "redis.otp.limit.match";
+    private static final String PROP_SCAN_COUNT = "redis.scan.count";
+    private static final String PROP_DELETE_BATCH_SIZE = "redis.delete.batch.size";
+    private static final String LOGIN_ID_PLACEHOLDER = "{loginId}";
+    private static final String DEFAULT_OTP_LIMIT_MATCH = "*" + LOGIN_ID_PLACEHOLDER + "*";
+    
+    // Connection validation: idle (evictor PINGs idle connections), borrow (PING on every borrow) or none
+    private static final String PROP_POOL_VALIDATION = "redis.connection.pool.validation";
+    private static final String PROP_POOL_MAX_WAIT_MS = "redis.connection.pool.max.wait.ms";
+    private static final String PROP_POOL_EVICTION_INTERVAL_MS = "redis.connection.pool.eviction.interval.ms";
+    private static final String PROP_POOL_MIN_EVICTABLE_IDLE_MS = "redis.connection.pool.min.evictable.idle.ms";
+    
+    // Cleared on first failure so servers older than Redis 4.0 fall back to DEL
+    private volatile boolean unlinkSupported = true;
+    
     /**
      * Check if OTP mock is enabled in configuration
      */
@@ -73,12 +113,15 @@ public class RedisManager implements Closeable {
             poolConfig.setMaxTotal(Integer.parseInt(apiConfig.getProperty("redis.connection.pool.max.total", "8")));
             poolConfig.setMaxIdle(Integer.parseInt(apiConfig.getProperty("redis.connection.pool.max.idle", "8")));
             poolConfig.setMinIdle(Integer.parseInt(apiConfig.getProperty("redis.connection.pool.min.idle", "0")));
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
-            poolConfig.setTestWhileIdle(true);
+            poolConfig.setMaxWait(Duration.ofMillis(apiConfig.getIntProperty(PROP_POOL_MAX_WAIT_MS, -1)));
+            configureValidation(poolConfig);
             
-            // Create connection pool
-            jedisPool = new JedisPool(poolConfig, redisHost, redisPort, timeout);
+            // Create connection pool - the factory counts connection creation and validation round-trips
+            JedisClientConfig clientConfig = DefaultJedisClientConfig.builder()
+                    .connectionTimeoutMillis(timeout)
+                    .socketTimeoutMillis(timeout)
+                    .build();
+            jedisPool = new JedisPool(poolConfig, new InstrumentedJedisFactory(new HostAndPort(redisHost, redisPort), clientConfig));
             
             // Test connection
             try (Jedis jedis = jedisPool.getResource()) {
@@ -101,6 +144,39 @@ public class RedisManager implements Closeable {
         }
     }
     
+    /**
+     * Apply the configured connection validation strategy
+     * PING-per-borrow costs a round-trip on every operation; idle-time eviction validates
+     * connections in the background so only the command itself reaches the server.
+     */
+    private void configureValidation(JedisPoolConfig poolConfig) {
+        String validation = apiConfig.getProperty(PROP_POOL_VALIDATION, "idle").trim().toLowerCase();
+        switch (validation) {
+            case "borrow":
+                poolConfig.setTestOnBorrow(true);
+                poolConfig.setTestOnReturn(false);
+                poolConfig.setTestWhileIdle(true);
+                break;
+            case "idle":
+                poolConfig.setTestOnBorrow(false);
+                poolConfig.setTestOnReturn(false);
+                poolConfig.setTestWhileIdle(true);
+                break;
+            case "none":
+                poolConfig.setTestOnBorrow(false);
+                poolConfig.setTestOnReturn(false);
+                poolConfig.setTestWhileIdle(false);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown Redis pool validation strategy: " + validation +
+                                                   ". Available strategies: borrow, idle, none");
+        }
+        poolConfig.setTimeBetweenEvictionRuns(Duration.ofMillis(apiConfig.getIntProperty(PROP_POOL_EVICTION_INTERVAL_MS, 30000)));
+        poolConfig.setMinEvictableIdleTime(Duration.ofMillis(apiConfig.getIntProperty(PROP_POOL_MIN_EVICTABLE_IDLE_MS, 60000)));
+        poolConfig.setNumTestsPerEvictionRun(-1);
+        logger.logDebug("Redis pool validation strategy: " + validation);
+    }
+    
     /**
      * Get Redis connection from pool
      */
@@ -113,7 +189,10 @@ public class RedisManager implements Closeable {
             }
             return null;
         }
-        return jedisPool.getResource();
+        long borrowStart = System.nanoTime();
+        Jedis connection = jedisPool.getResource();
+        FrameworkMetrics.REDIS_POOL_BORROW_WAIT.observeNanos(System.nanoTime() - borrowStart);
+        return connection;
     }
     
     /**
@@ -131,10 +210,45 @@ public class RedisManager implements Closeable {
      * Follows the same pattern as the original cucumber-api framework
      */
     public String getOtp(String loginId) {
-        String keyPrefix = apiConfig.getProperty("redis.otp.key.prefix", "onetimepasswordsixdigit:v2:");
-        String redisKey = keyPrefix + loginId;
-        
-        return getOtpByKey(redisKey);
+        return getOtpByKey(getOtpKey(loginId));
+    }
+    
+    /**
+     * Get the raw OTP record for a login ID (null when absent or Redis is unavailable)
+     * Used to detect when a freshly sent OTP has replaced the previous record
+     */
+    public String getOtpRecord(String loginId) {
+        if (jedisPool == null) {
+            return null;
+        }
+        int database = Integer.parseInt(apiConfig.getProperty("redis.database", "0"));
+        return getValue(getOtpKey(loginId), database);
+    }
+    
+    /**
+     * Extract the OTP digits from a raw OTP record using the configured offsets
+     */
+    public String extractOtp(String value) {
+        int extractStart = Integer.parseInt(apiConfig.getProperty("redis.otp.extract.start", "6"));
+        int extractEnd = Integer.parseInt(apiConfig.getProperty("redis.otp.extract.end", "13"));
+        if (value != null && value.length() >= extractEnd) {
+            return value.substring(extractStart, extractEnd);
+        }
+        return null;
+    }
+    
+    /**
+     * Redis key holding the OTP record of a login ID
+     */
+    private String getOtpKey(String loginId) {
+        return apiConfig.getProperty("redis.otp.key.prefix", "onetimepasswordsixdigit:v2:") + loginId;
+    }
+    
+    /**
+     * Check whether a Redis connection pool is available
+     */
+    public boolean isAvailable() {
+        return jedisPool != null;
     }
     
     /**
@@ -149,9 +263,8 @@ public class RedisManager implements Closeable {
         }
         
         int database = Integer.parseInt(apiConfig.getProperty("redis.database", "0"));
-        int extractStart = Integer.parseInt(apiConfig.getProperty("redis.otp.extract.start", "6"));
-        int extractEnd = Integer.parseInt(apiConfig.getProperty("redis.otp.extract.end", "13"));
         
+        OperationTimer event = startOperation();
         try (Jedis connection = getConnection()) {
             if (connection == null) {
                 logger.logWarning("Redis connection is null, falling back to mock OTP");
@@ -163,8 +276,9 @@ public class RedisManager implements Closeable {
             selectDatabase(connection, database);
             
             String value = connection.get(redisKey);
-            if (value != null && value.length() >= extractEnd) {
-                String otp = value.substring(extractStart, extractEnd);
+            recordCall(event, "get_otp", true);
+            String otp = extractOtp(value);
+            if (otp != null) {
                 logger.logDebug("Retrieved OTP from Redis - Key: " + redisKey + ", OTP: " + otp);
                 return otp;
             } else {
@@ -173,6 +287,7 @@ public class RedisManager implements Closeable {
             }
             
         } catch (JedisException e) {
+            recordCall(event, "get_otp", false);
             logger.logError("Redis error while retrieving OTP for key: " + redisKey, e);
             return null;
         } catch (Exception e) {
@@ -192,12 +307,15 @@ public class RedisManager implements Closeable {
      * Get raw value from Redis with database selection
      */
     public String getValue(String key, int database) {
+        OperationTimer event = startOperation();
         try (Jedis connection = getConnection()) {
             selectDatabase(connection, database);
             String value = connection.get(key);
+            recordCall(event, "get", true);
             logger.logDebug("Retrieved value from Redis - Key: " + key + ", Database: " + database);
             return value;
         } catch (JedisException e) {
+            recordCall(event, "get", false);
             logger.logError("Redis error while retrieving value for key: " + key, e);
             return null;
         } catch (Exception e) {
@@ -217,13 +335,16 @@ public class RedisManager implements Closeable {
      * Set value in Redis with database selection
      */
     public boolean setValue(String key, String value, int database) {
+        OperationTimer event = startOperation();
         try (Jedis connection = getConnection()) {
             selectDatabase(connection, database);
             String result = connection.set(key, value);
             boolean success = "OK".equals(result);
+            recordCall(event, "set", success);
             logger.logDebug("Set value in Redis - Key: " + key + ", Database: " + database + ", Success: " + success);
             return success;
         } catch (JedisException e) {
+            recordCall(event, "set", false);
             logger.logError("Redis error while setting value for key: " + key, e);
             return false;
         } catch (Exception e) {
@@ -243,13 +364,16 @@ public class RedisManager implements Closeable {
      * Delete key from Redis with database selection
      */
     public boolean deleteKey(String key, int database) {
+        OperationTimer event = startOperation();
         try (Jedis connection = getConnection()) {
             selectDatabase(connection, database);
             Long result = connection.del(key);
             boolean success = result > 0;
+            recordCall(event, "del", true);
             logger.logDebug("Deleted key from Redis - Key: " + key + ", Database: " + database + ", Success: " + success);
             return success;
         } catch (JedisException e) {
+            recordCall(event, "del", false);
             logger.logError("Redis error while deleting key: " + key, e);
             return false;
         } catch (Exception e) {
@@ -258,6 +382,172 @@ public class RedisManager implements Closeable {
         }
     }
     
+    // ==================== BATCH OPERATIONS (one connection, one pipelined round-trip) ====================
+    
+    /**
+     * Get OTPs for several login IDs in one pipelined round-trip
+     * @return loginId to OTP, null for login IDs without a valid OTP record
+     */
+    public Map<String, String> getOtps(Collection<String> loginIds) {
+        Map<String, String> otps = new LinkedHashMap<>();
+        if (isMockOtpEnabled() || jedisPool == null) {
+            // Same fallback as getOtpByKey: mock value when Redis is bypassed or unavailable
+            String mockOtp = apiConfig.getProperty("auth.otp.mock.value", "123456");
+            loginIds.forEach(loginId -> otps.put(loginId, mockOtp));
+            return otps;
+        }
+        
+        Map<String, String> keyToLoginId = new LinkedHashMap<>();
+        for (String loginId : loginIds) {
+            keyToLoginId.put(getOtpKey(loginId), loginId);
+        }
+        int database = Integer.parseInt(apiConfig.getProperty("redis.database", "0"));
+        Map<String, String> records = getValues(keyToLoginId.keySet(), database);
+        keyToLoginId.forEach((key, loginId) -> otps.put(loginId, extractOtp(records.get(key))));
+        return otps;
+    }
+    
+    /**
+     * Get several raw values in one pipelined round-trip
+     * @return key to value (null for missing keys), empty when Redis is unavailable or the batch failed
+     */
+    public Map<String, String> getValues(Collection<String> keys, int database) {
+        Map<String, String> values = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return values;
+        }
+        OperationTimer event = startOperation();
+        try (Jedis connection = getConnection()) {
+            if (connection == null) {
+                return values;
+            }
+            selectDatabase(connection, database);
+            Pipeline pipeline = connection.pipelined();
+            Map<String, Response<String>> responses = new LinkedHashMap<>();
+            for (String key : keys) {
+                responses.put(key, pipeline.get(key));
+            }
+            pipeline.sync();
+            responses.forEach((key, response) -> values.put(key, response.get()));
+            recordCall(event, "pipeline_get", true);
+            logger.logDebug("Retrieved " + keys.size() + " values from Redis in one pipeline - Database: " + database);
+            return values;
+        } catch (JedisException e) {
+            recordCall(event, "pipeline_get", false);
+            logger.logError("Redis error while retrieving " + keys.size() + " values", e);
+            return new LinkedHashMap<>();
+        } catch (Exception e) {
+            recordCall(event, "pipeline_get", false);
+            logger.logError("Unexpected error while retrieving " + keys.size() + " values", e);
+            return new LinkedHashMap<>();
+        }
+    }
+    
+    /**
+     * Set several values in one pipelined round-trip
+     * @return number of keys successfully set
+     */
+    public int setValues(Map<String, String> keyValues, int database) {
+        if (keyValues.isEmpty()) {
+            return 0;
+        }
+        OperationTimer event = startOperation();
+        try (Jedis connection = getConnection()) {
+            if (connection == null) {
+                return 0;
+            }
+            selectDatabase(connection, database);
+            Pipeline pipeline = connection.pipelined();
+            List<Response<String>> responses = new ArrayList<>(keyValues.size());
+            keyValues.forEach((key, value) -> responses.add(pipeline.set(key, value)));
+            pipeline.sync();
+            int succeeded = 0;
+            for (Response<String> response : responses) {
+                if ("OK".equals(response.get())) {
+                    succeeded++;
+                }
+            }
+            recordCall(event, "pipeline_set", succeeded == keyValues.size());
+            logger.logDebug("Set " + succeeded + "/" + keyValues.size() + " values in Redis in one pipeline - Database: " + database);
+            return succeeded;
+        } catch (JedisException e) {
+            recordCall(event, "pipeline_set", false);
+            logger.logError("Redis error while setting " + keyValues.size() + " values", e);
+            return 0;
+        } catch (Exception e) {
+            recordCall(event, "pipeline_set", false);
+            logger.logError("Unexpected error while setting " + keyValues.size() + " values", e);
+            return 0;
+        }
+    }
+    
+    /**
+     * Delete several keys in one round-trip
+     * @return number of keys that existed and were deleted
+     */
+    public long deleteKeys(Collection<String> keys, int database) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        OperationTimer event = startOperation();
+        try (Jedis connection = getConnection()) {
+            if (connection == null) {
+                return 0;
+            }
+            selectDatabase(connection, database);
+            long deleted = connection.del(keys.toArray(new String[0]));
+            recordCall(event, "del", true);
+            logger.logDebug("Deleted " + deleted + "/" + keys.size() + " keys from Redis - Database: " + database);
+            return deleted;
+        } catch (JedisException e) {
+            recordCall(event, "del", false);
+            logger.logError("Redis error while deleting " + keys.size() + " keys", e);
+            return 0;
+        } catch (Exception e) {
+            recordCall(event, "del", false);
+            logger.logError("Unexpected error while deleting " + keys.size() + " keys", e);
+            return 0;
+        }
+    }
+    
+    /**
+     * Update several hashes in one pipelined round-trip
+     * @return number of hashes successfully updated
+     */
+    public int updateHashValues(Map<String, Map<String, String>> hashes, int database) {
+        if (hashes.isEmpty()) {
+            return 0;
+        }
+        OperationTimer event = startOperation();
+        try (Jedis connection = getConnection()) {
+            if (connection == null) {
+                return 0;
+            }
+            selectDatabase(connection, database);
+            Pipeline pipeline = connection.pipelined();
+            List<Response<String>> responses = new ArrayList<>(hashes.size());
+            hashes.forEach((key, fields) -> responses.add(pipeline.hmset(key, fields)));
+            pipeline.sync();
+            int succeeded = 0;
+            for (Response<String> response : responses) {
+                if ("OK".equals(response.get())) {
+                    succeeded++;
+                }
+            }
+            recordCall(event, "pipeline_hmset", succeeded == hashes.size());
+            logger.logDebug("Updated " + succeeded + "/" + hashes.size() + " hashes in Redis in one pipeline - Database: " + database);
+            return succeeded;
+        } catch (JedisException e) {
+            recordCall(event, "pipeline_hmset", false);
+            logger.logError("Redis error while updating " + hashes.size() + " hashes", e);
+            return 0;
+        } catch (Exception e) {
+            recordCall(event, "pipeline_hmset", false);
+            logger.logError("Unexpected error while updating " + hashes.size() + " hashes", e);
+            return 0;
+        }
+    }
+    
     /**
      * Delete OTP limit keys for a login ID to avoid rate limiting
      * Follows the same cleanup pattern as the original framework
@@ -270,25 +560,178 @@ public class RedisManager implements Closeable {
      * Delete OTP limit keys for a login ID with database selection
      */
     public void deleteOtpLimit(String loginId, int database) {
+        deleteOtpLimits(Collections.singletonList(loginId), database);
+    }
+    
+    /**
+     * Delete OTP limit keys for several login IDs (e.g. a session pool)
+     * @return number of keys deleted
+     */
+    public long deleteOtpLimits(Collection<String> loginIds) {
+        return deleteOtpLimits(loginIds, 0);
+    }
+    
+    /**
+     * Delete OTP limit keys for several login IDs with database selection
+     * Uses incremental SCAN instead of KEYS so the shared server is never blocked, and removes matches
+     * with UNLINK in batches. SCAN walks the whole keyspace whatever the MATCH, so all login IDs share
+     * one pass: a single login ID is filtered by the server, several are matched locally against the set.
+     * @return number of keys deleted
+     */
+    public long deleteOtpLimits(Collection<String> loginIds, int database) {
+        if (loginIds.isEmpty()) {
+            return 0;
+        }
+        String matchTemplate = apiConfig.getProperty(PROP_OTP_LIMIT_MATCH, DEFAULT_OTP_LIMIT_MATCH).trim();
+        if (!matchTemplate.contains(LOGIN_ID_PLACEHOLDER)) {
+            throw new IllegalArgumentException("Invalid " + PROP_OTP_LIMIT_MATCH + ": " + matchTemplate +
+                                               ". It must contain " + LOGIN_ID_PLACEHOLDER);
+        }
+        int scanCount = apiConfig.getIntProperty(PROP_SCAN_COUNT, 1000);
+        int batchSize = Math.max(1, apiConfig.getIntProperty(PROP_DELETE_BATCH_SIZE, 500));
+        
+        String match;
+        Pattern localFilter = null;
+        if (loginIds.size() == 1) {
+            match = matchTemplate.replace(LOGIN_ID_PLACEHOLDER, escapeGlob(loginIds.iterator().next()));
+        } else {
+            match = matchTemplate.replace(LOGIN_ID_PLACEHOLDER, "*");
+            localFilter = compileLoginIdFilter(matchTemplate, loginIds);
+        }
+        
         try (Jedis connection = getConnection()) {
+            if (connection == null) {
+                logger.logDebug("Skipping OTP limit cleanup - Redis is not available");
+                return 0;
+            }
             selectDatabase(connection, database);
             
-            // Find all keys containing the loginId
-            Set<String> keys = connection.keys("*" + loginId + "*");
+            ScanParams scanParams = new ScanParams().match(match).count(scanCount);
+            String cursor = ScanParams.SCAN_POINTER_START;
+            List<String> batch = new ArrayList<>(batchSize);
+            long scanned = 0;
+            long deleted = 0;
+            do {
+                OperationTimer scanEvent = startOperation();
+                ScanResult<String> page = connection.scan(cursor, scanParams);
+                recordCall(scanEvent, "scan", true);
+                cursor = page.getCursor();
+                
+                for (String key : page.getResult()) {
+                    scanned++;
+                    if (localFilter == null || localFilter.matcher(key).matches()) {
+                        batch.add(key);
+                        if (batch.size() >= batchSize) {
+                            deleted += unlinkBatch(connection, batch);
+                        }
+                    }
+                }
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+            deleted += unlinkBatch(connection, batch);
             
-            if (!keys.isEmpty()) {
-                String[] keyArray = keys.toArray(new String[0]);
-                Long deletedCount = connection.del(keyArray);
-                logger.logInfo("Deleted " + deletedCount + " OTP limit keys for loginId: " + loginId);
+            FrameworkMetrics.recordKeyCleanup(scanned, deleted);
+            if (deleted > 0) {
+                logger.logInfo("Deleted " + deleted + " OTP limit keys for " + loginIds.size() + " loginId(s) (" + scanned + " keys scanned)");
             } else {
-                logger.logDebug("No OTP limit keys found for loginId: " + loginId);
+                logger.logDebug("No OTP limit keys found for loginIds: " + loginIds);
             }
+            return deleted;
             
         } catch (JedisException e) {
-            logger.logError("Redis error while deleting OTP limit keys for loginId: " + loginId, e);
+            FrameworkMetrics.recordRedisCall("delete_otp_limit", false);
+            logger.logError("Redis error while deleting OTP limit keys for loginIds: " + loginIds, e);
+            return 0;
         } catch (Exception e) {
-            logger.logError("Unexpected error while deleting OTP limit keys for loginId: " + loginId, e);
+            FrameworkMetrics.recordRedisCall("delete_otp_limit", false);
+            logger.logError("Unexpected error while deleting OTP limit keys for loginIds: " + loginIds, e);
+            return 0;
+        }
+    }
+    
+    /**
+     * Remove a batch of keys with UNLINK (memory reclaimed off the server's main thread), DEL on old servers
+     */
+    private long unlinkBatch(Jedis connection, List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        String[] keys = batch.toArray(new String[0]);
+        batch.clear();
+        
+        if (unlinkSupported) {
+            OperationTimer unlinkEvent = startOperation();
+            try {
+                long removed = connection.unlink(keys);
+                recordCall(unlinkEvent, "unlink", true);
+                return removed;
+            } catch (JedisDataException e) {
+                recordCall(unlinkEvent, "unlink", false);
+                unlinkSupported = false;
+                logger.logWarning("UNLINK not supported by Redis server, falling back to DEL: " + e.getMessage());
+            }
+        }
+        OperationTimer delEvent = startOperation();
+        long removed = connection.del(keys);
+        recordCall(delEvent, "del", true);
+        return removed;
+    }
+    
+    /**
+     * Escape glob metacharacters so a login ID is matched literally by SCAN MATCH
+     */
+    private static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (char c : value.toCharArray()) {
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+    
+    /**
+     * Build a regex equivalent of the match template that accepts any of the given login IDs
+     */
+    private static Pattern compileLoginIdFilter(String matchTemplate, Collection<String> loginIds) {
+        StringBuilder alternatives = new StringBuilder("(?:");
+        for (String loginId : loginIds) {
+            if (alternatives.length() > 3) {
+                alternatives.append('|');
+            }
+            alternatives.append(Pattern.quote(loginId));
         }
+        alternatives.append(')');
+        
+        StringBuilder regex = new StringBuilder();
+        String[] parts = matchTemplate.split(Pattern.quote(LOGIN_ID_PLACEHOLDER), -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                regex.append(alternatives);
+            }
+            regex.append(globToRegex(parts[i]));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+    
+    /**
+     * Translate the glob subset used in match templates (*, ? and backslash escapes) into a regex
+     */
+    private static String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else if (c == '\\' && i + 1 < glob.length()) {
+                regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
     }
     
     /**
@@ -302,15 +745,18 @@ public class RedisManager implements Closeable {
      * Update Redis hash value with database selection
      */
     public boolean updateHashValue(String key, Map<String, String> hashValues, int database) {
+        OperationTimer event = startOperation();
         try (Jedis connection = getConnection()) {
             selectDatabase(connection, database);
             
             String result = connection.hmset(key, hashValues);
             boolean success = "OK".equals(result);
+            recordCall(event, "hmset", success);
             logger.logDebug("Updated hash in Redis - Key: " + key + ", Database: " + database + ", Fields: " + hashValues.size() + ", Success: " + success);
             return success;
             
         } catch (JedisException e) {
+            recordCall(event, "hmset", false);
             logger.logError("Redis error while updating hash for key: " + key, e);
             return false;
         } catch (Exception e) {
@@ -319,14 +765,93 @@ public class RedisManager implements Closeable {
         }
     }
     
+    /**
+     * Start timing a Redis operation (latency histogram and JFR event)
+     */
+    private static OperationTimer startOperation() {
+        return new OperationTimer();
+    }
+    
+    /**
+     * Record a completed Redis operation in metrics and JFR
+     */
+    private static void recordCall(OperationTimer timer, String operation, boolean success) {
+        FrameworkMetrics.recordRedisCall(operation, success, System.nanoTime() - timer.startNanos);
+        timer.event.complete(operation, success);
+    }
+    
+    /**
+     * Active connections of the shared pool - 0 when Redis is not in use
+     */
+    public static long currentActiveConnections() {
+        JedisPool pool = instance != null ? instance.jedisPool : null;
+        return pool != null ? pool.getNumActive() : 0;
+    }
+    
+    /**
+     * Idle connections of the shared pool - 0 when Redis is not in use
+     */
+    public static long currentIdleConnections() {
+        JedisPool pool = instance != null ? instance.jedisPool : null;
+        return pool != null ? pool.getNumIdle() : 0;
+    }
+    
+    /**
+     * Threads blocked waiting for a pooled connection - 0 when Redis is not in use
+     */
+    public static long currentWaiters() {
+        JedisPool pool = instance != null ? instance.jedisPool : null;
+        return pool != null ? pool.getNumWaiters() : 0;
+    }
+    
+    /**
+     * Start time and JFR event of an in-progress Redis operation
+     */
+    private static final class OperationTimer {
+        private final RedisOperationEvent event = new RedisOperationEvent();
+        private final long startNanos;
+        
+        private OperationTimer() {
+            event.begin();
+            startNanos = System.nanoTime();
+        }
+    }
+    
+    /**
+     * JedisFactory that reports created connections and validation round-trips
+     */
+    private static final class InstrumentedJedisFactory extends JedisFactory {
+        private InstrumentedJedisFactory(HostAndPort hostAndPort, JedisClientConfig clientConfig) {
+            super(hostAndPort, clientConfig);
+        }
+        
+        @Override
+        public PooledObject<Jedis> makeObject() throws Exception {
+            PooledObject<Jedis> connection = super.makeObject();
+            FrameworkMetrics.REDIS_POOL_CONNECTIONS_CREATED.inc();
+            return connection;
+        }
+        
+        @Override
+        public boolean validateObject(PooledObject<Jedis> pooledJedis) {
+            long start = System.nanoTime();
+            boolean valid = super.validateObject(pooledJedis);
+            FrameworkMetrics.recordRedisValidation(valid, System.nanoTime() - start);
+            return valid;
+        }
+    }
+    
     /**
      * Check if Redis connection is healthy
      */
     public boolean isHealthy() {
+        OperationTimer event = startOperation();
         try (Jedis connection = getConnection()) {
             String pong = connection.ping();
+            recordCall(event, "ping", true);
             return "PONG".equals(pong);
         } catch (Exception e) {
+            recordCall(event, "ping", false);
             logger.logError("Redis health check failed",e);
             return false;
         }
@@ -337,10 +862,13 @@ public class RedisManager implements Closeable {
      */
     public String getConnectionInfo() {
         if (jedisPool != null) {
-            return String.format("Redis Pool - Active: %d, Idle: %d, Total: %d", 
+            return String.format("Redis Pool - Active: %d, Idle: %d, Total: %d, Waiters: %d, Mean borrow wait: %d ms, Max borrow wait: %d ms", 
                                jedisPool.getNumActive(), 
                                jedisPool.getNumIdle(), 
-                               jedisPool.getNumActive() + jedisPool.getNumIdle());
+                               jedisPool.getNumActive() + jedisPool.getNumIdle(),
+                               jedisPool.getNumWaiters(),
+                               jedisPool.getMeanBorrowWaitTimeMillis(),
+                               jedisPool.getMaxBorrowWaitTimeMillis());
         }
         return "Redis connection pool not initialized";
     }
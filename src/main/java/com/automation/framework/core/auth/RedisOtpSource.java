@@ -0,0 +1,37 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.interfaces.OtpSourceInterface;
+
+/**
+ * OTP source reading the records written by the backend to Redis
+ */
+public class RedisOtpSource implements OtpSourceInterface {
+    private RedisManager redisManager; // Lazy initialization - connects on first use
+
+    private RedisManager getRedisManager() {
+        if (redisManager == null) {
+            redisManager = RedisManager.getInstance();
+        }
+        return redisManager;
+    }
+
+    @Override
+    public String getOtp(String loginId) {
+        return getRedisManager().getOtp(loginId);
+    }
+
+    @Override
+    public boolean supportsPolling() {
+        return getRedisManager().isAvailable();
+    }
+
+    @Override
+    public String getOtpRecord(String loginId) {
+        return getRedisManager().getOtpRecord(loginId);
+    }
+
+    @Override
+    public String extractOtp(String record) {
+        return getRedisManager().extractOtp(record);
+    }
+}
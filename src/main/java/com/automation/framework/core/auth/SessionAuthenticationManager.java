@@ -3,8 +3,13 @@ package com.automation.framework.core.auth;
 import com.automation.framework.core.config.ApiConfig;
 import com.automation.framework.core.interfaces.LoggingInterface;
 import com.automation.framework.core.logging.ApiLogger;
+import com.automation.framework.core.metrics.FrameworkMetrics;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -21,23 +26,34 @@ public class SessionAuthenticationManager {
     // Session cache for authentication tokens
     private final ConcurrentHashMap<String, SessionAuthData> sessionCache = new ConcurrentHashMap<>();
     
+    // In-flight token acquisitions - concurrent callers for the same session share one login
+    private final ConcurrentHashMap<String, CompletableFuture<SessionAuthData>> inFlightAuth = new ConcurrentHashMap<>();
+    
+    // Login ID per session key for multi-user sessions (see SessionPool) - other sessions use the configured user
+    private final ConcurrentHashMap<String, String> sessionUsers = new ConcurrentHashMap<>();
+    
     private final AuthenticationManager authManager;
     private final ApiConfig apiConfig;
+    private final TokenRefreshScheduler refreshScheduler;
+    private final PersistentTokenCache persistentCache;
     
     // Configuration keys for authentication properties
     private static final String PROP_AUTH_USER_EMAIL = "auth.user.email";
     private static final String PROP_AUTH_USER_PHONE = "auth.user.phone";
     private static final String PROP_AUTH_USER_CLIENT_ID = "auth.user.clientid";
-    private static final String PROP_AUTH_USER_DEVICE_ID = "auth.user.device.id";
     private static final String PROP_AUTH_TOKEN_EXPIRY_HOURS = "auth.token.expiry.hours";
+    private static final String PROP_AUTH_ACQUISITION_WAIT_MS = "auth.acquisition.wait.timeout.ms";
     
     /**
      * Private constructor for singleton pattern
      */
     private SessionAuthenticationManager() {
         this.apiConfig = new ApiConfig();
-        String baseUrl = apiConfig.getBaseUrl();
+        // Auth endpoints may be served separately from the API under test (e.g. the local stub)
+        String baseUrl = apiConfig.getProperty("auth.base.url", apiConfig.getBaseUrl());
         this.authManager = new AuthenticationManager(baseUrl);
+        this.refreshScheduler = new TokenRefreshScheduler(apiConfig);
+        this.persistentCache = new PersistentTokenCache(apiConfig);
     }
     
     /**
@@ -86,54 +102,177 @@ public class SessionAuthenticationManager {
     
     /**
      * Generate and cache new authentication token
+     * Single-flight per session key: the first caller authenticates, concurrent callers for the
+     * same key wait on its result, and different keys authenticate in parallel.
      */
     private String generateAndCacheToken(String sessionKey) {
-        lock.lock();
+        CompletableFuture<SessionAuthData> acquisition = new CompletableFuture<>();
+        CompletableFuture<SessionAuthData> inFlight = inFlightAuth.putIfAbsent(sessionKey, acquisition);
+        if (inFlight != null) {
+            logger.logDebug("Waiting for in-flight authentication of session: " + sessionKey);
+            SessionAuthData authData = awaitAcquisition(inFlight);
+            // A proactive refresh only swaps into an existing entry - if the session was cleared while it ran
+            // (e.g. forceReauthentication), cache its token here so the next request does not log in again
+            if (sessionCache.putIfAbsent(sessionKey, authData) == null) {
+                activateSession(sessionKey, authData);
+            }
+            return authData.getBearerToken();
+        }
+        
         try {
-            // Double-check if token was generated by another thread
+            // Double-check if token was generated by another thread before we registered
             SessionAuthData cachedAuth = sessionCache.get(sessionKey);
             if (cachedAuth != null && !cachedAuth.isExpired()) {
                 logger.logDebug("Token was generated by another thread for session: " + sessionKey);
+                acquisition.complete(cachedAuth);
                 return cachedAuth.getBearerToken();
             }
             
-            // Get user configuration
-            String loginId = getLoginId();
-            String clientId = apiConfig.getProperty(PROP_AUTH_USER_CLIENT_ID, "iximweb");
-            String deviceId = getDeviceId();
+            SessionAuthData authData = authenticateSession(sessionKey, true);
+            sessionCache.put(sessionKey, authData);
+            activateSession(sessionKey, authData);
+            acquisition.complete(authData);
+            return authData.getBearerToken();
             
-            logger.logInfo("Authenticating user: " + loginId + " with client: " + clientId + " for session: " + sessionKey);
-            
-            // Perform authentication
-            AuthResponse response = authManager.authenticate(loginId, clientId, deviceId);
+        } catch (RuntimeException e) {
+            acquisition.completeExceptionally(e);
+            throw e;
+        } finally {
+            abortIfIncomplete(sessionKey, acquisition);
+            inFlightAuth.remove(sessionKey, acquisition);
+        }
+    }
+    
+    /**
+     * Background refresh ahead of expiry
+     * Callers keep using the current token until the new one is swapped into the cache.
+     */
+    private void refreshSession(String sessionKey) {
+        CompletableFuture<SessionAuthData> acquisition = new CompletableFuture<>();
+        if (inFlightAuth.putIfAbsent(sessionKey, acquisition) != null) {
+            logger.logDebug("Skipping proactive refresh, acquisition already in flight for session: " + sessionKey);
+            return;
+        }
+        
+        try {
+            logger.logInfo("Proactively refreshing authentication token for session: " + sessionKey);
+            SessionAuthData authData = authenticateSession(sessionKey, false);
             
-            if (response.isSuccess()) {
-                // Get configurable expiry duration
-                int expiryHours = apiConfig.getIntProperty(PROP_AUTH_TOKEN_EXPIRY_HOURS, 24);
-                long expiryDuration = expiryHours * 60 * 60 * 1000L; // Convert hours to milliseconds
-                
-                // Cache the authentication data
-                SessionAuthData authData = new SessionAuthData(
-                    response.getAccessToken(),
-                    response.getCookie(),
-                    System.currentTimeMillis(),
-                    expiryDuration
-                );
-                
-                sessionCache.put(sessionKey, authData);
-                logger.logInfo("Authentication successful and cached for session: " + sessionKey);
-                
-                return response.getBearerToken();
-            } else {
-                logger.logError("Authentication failed for session: " + sessionKey + " - " + response.getMessage(), null);
-                throw new RuntimeException("Authentication failed: " + response.getMessage());
+            // Swap only if the session was not cleared while refreshing; waiters (a forced re-login that
+            // cleared it) are released afterwards and cache the token themselves
+            if (sessionCache.replace(sessionKey, authData) != null) {
+                activateSession(sessionKey, authData);
             }
-            
+            acquisition.complete(authData);
+        } catch (RuntimeException e) {
+            acquisition.completeExceptionally(e);
+            logger.logWarning("Proactive token refresh failed for session: " + sessionKey + " - " + e.getMessage());
+            refreshScheduler.scheduleRetry(sessionKey, sessionCache.get(sessionKey), () -> refreshSession(sessionKey));
         } finally {
-            lock.unlock();
+            abortIfIncomplete(sessionKey, acquisition);
+            inFlightAuth.remove(sessionKey, acquisition);
         }
     }
     
+    /**
+     * Seed the cookie jar and schedule the next refresh for a token just put into the cache
+     */
+    private void activateSession(String sessionKey, SessionAuthData authData) {
+        SessionCookieJar.getInstance().seedAuthCookie(sessionKey, authData.getCookie());
+        refreshScheduler.scheduleRefresh(sessionKey, authData, () -> refreshSession(sessionKey));
+    }
+    
+    /**
+     * Perform the OTP login flow for a session and build its cache entry
+     * @param allowPersisted - reuse a still-valid token from the on-disk cache instead of logging in
+     */
+    private SessionAuthData authenticateSession(String sessionKey, boolean allowPersisted) {
+        // Get user configuration
+        String loginId = getLoginId(sessionKey);
+        String clientId = apiConfig.getProperty(PROP_AUTH_USER_CLIENT_ID, "iximweb");
+        
+        if (allowPersisted) {
+            SessionAuthData persisted = persistentCache.load(clientId, loginId);
+            if (persisted != null) {
+                authManager.restoreToken(loginId, persisted.getAccessToken(), persisted.getCookie(), persisted.getTimestamp());
+                logger.logInfo("Using persisted authentication token for session: " + sessionKey);
+                return persisted;
+            }
+        }
+        
+        String deviceId = getDeviceId(sessionKey);
+        
+        logger.logInfo("Authenticating user: " + loginId + " with client: " + clientId + " for session: " + sessionKey);
+        
+        // Perform authentication
+        AuthResponse response = authManager.authenticate(loginId, clientId, deviceId);
+        FrameworkMetrics.recordAuthRefresh(response.isSuccess());
+        
+        if (response.isSuccess()) {
+            // Get configurable expiry duration
+            int expiryHours = apiConfig.getIntProperty(PROP_AUTH_TOKEN_EXPIRY_HOURS, 24);
+            long expiryDuration = expiryHours * 60 * 60 * 1000L; // Convert hours to milliseconds
+            
+            logger.logInfo("Authentication successful for session: " + sessionKey);
+            SessionAuthData authData = new SessionAuthData(
+                response.getAccessToken(),
+                response.getCookie(),
+                System.currentTimeMillis(),
+                expiryDuration
+            );
+            persistentCache.store(clientId, loginId, authData);
+            return authData;
+        } else {
+            logger.logError("Authentication failed for session: " + sessionKey + " - " + response.getMessage(), null);
+            throw new RuntimeException("Authentication failed: " + response.getMessage());
+        }
+    }
+    
+    /**
+     * Release waiters when the owner leaves without a result (e.g. an Error escaped the login flow)
+     */
+    private void abortIfIncomplete(String sessionKey, CompletableFuture<SessionAuthData> acquisition) {
+        if (!acquisition.isDone()) {
+            acquisition.completeExceptionally(
+                    new IllegalStateException("Authentication aborted for session: " + sessionKey));
+        }
+    }
+    
+    /**
+     * Wait (bounded) for another thread's acquisition and surface its failure unchanged
+     */
+    private SessionAuthData awaitAcquisition(CompletableFuture<SessionAuthData> acquisition) {
+        long waitMs = apiConfig.getIntProperty(PROP_AUTH_ACQUISITION_WAIT_MS, 120000);
+        try {
+            return acquisition.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Authentication failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Timed out after " + waitMs + " ms waiting for in-flight authentication", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for in-flight authentication", e);
+        }
+    }
+    
+    /**
+     * Authenticate a session as a specific user instead of the configured one
+     */
+    public void registerSessionUser(String sessionKey, String loginId) {
+        sessionUsers.put(sessionKey, loginId);
+    }
+    
+    /**
+     * Get login ID registered for a session, or the configured user
+     */
+    private String getLoginId(String sessionKey) {
+        String loginId = sessionUsers.get(sessionKey);
+        return loginId != null ? loginId : getLoginId();
+    }
+    
     /**
      * Get login ID from configuration (email or phone)
      */
@@ -152,17 +291,17 @@ public class SessionAuthenticationManager {
     }
     
     /**
-     * Get device ID from configuration or generate new one
+     * Get device ID of the default session
      */
     public String getDeviceId() {
-        String deviceId = apiConfig.getProperty(PROP_AUTH_USER_DEVICE_ID);
-        
-        if (deviceId == null || deviceId.trim().isEmpty() || "auto-generated".equals(deviceId)) {
-            deviceId = AuthenticationManager.generateDeviceId();
-            logger.logDebug("Generated new device ID: " + deviceId);
-        }
-        
-        return deviceId;
+        return getDeviceId(SessionPool.DEFAULT_SESSION);
+    }
+    
+    /**
+     * Get the stable device ID of a session - configured ID, or one assigned per session by DeviceIdentityRegistry
+     */
+    public String getDeviceId(String sessionKey) {
+        return DeviceIdentityRegistry.getInstance().getDeviceId(sessionKey);
     }
     
     
@@ -170,7 +309,9 @@ public class SessionAuthenticationManager {
      * Clear session authentication cache
      */
     public void clearSessionCache() {
+        refreshScheduler.cancelAll();
         sessionCache.clear();
+        SessionCookieJar.getInstance().clearAll();
         logger.logInfo("Session authentication cache cleared");
     }
     
@@ -178,7 +319,9 @@ public class SessionAuthenticationManager {
      * Clear specific session authentication
      */
     public void clearSession(String sessionKey) {
+        refreshScheduler.cancel(sessionKey);
         SessionAuthData removed = sessionCache.remove(sessionKey);
+        SessionCookieJar.getInstance().clear(sessionKey);
         if (removed != null) {
             logger.logInfo("Cleared authentication for session: " + sessionKey);
         }
@@ -204,6 +347,8 @@ public class SessionAuthenticationManager {
      */
     public String forceReauthentication(String sessionKey) {
         clearSession(sessionKey);
+        // A forced re-login usually means the server rejected the token - never reuse the persisted copy
+        persistentCache.evict(apiConfig.getProperty(PROP_AUTH_USER_CLIENT_ID, "iximweb"), getLoginId(sessionKey));
         return generateAndCacheToken(sessionKey);
     }
     
@@ -235,6 +380,14 @@ public class SessionAuthenticationManager {
             return cookie;
         }
         
+        public long getTimestamp() {
+            return timestamp;
+        }
+        
+        public long getExpiryDuration() {
+            return expiryDuration;
+        }
+        
         public boolean isExpired() {
             return (System.currentTimeMillis() - timestamp) > expiryDuration;
         }
@@ -0,0 +1,189 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.response.Response;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SessionCookieJar keeps the cookies of each authenticated session and replays them on later requests
+ * Seeded with the sapphire cookie captured at login, updated from Set-Cookie on every API response.
+ * Each session holds an immutable name/value array pair with its Cookie header pre-rendered,
+ * replaced atomically per session so concurrent virtual users never see a partial update.
+ */
+public class SessionCookieJar {
+    private static final LoggingInterface logger = new ApiLogger(SessionCookieJar.class);
+
+    public static final String AUTH_COOKIE_NAME = "sapphire";
+
+    private static final String PROP_COOKIE_JAR_ENABLED = "auth.cookie.jar.enabled";
+    private static final String PROP_COOKIE_JAR_MAX_COOKIES = "auth.cookie.jar.max.cookies";
+
+    private static volatile SessionCookieJar instance;
+    private static final Object lock = new Object();
+
+    private final boolean enabled;
+    private final int maxCookies;
+    private final ConcurrentHashMap<String, CookieSet> jars = new ConcurrentHashMap<>();
+
+    private SessionCookieJar() {
+        ApiConfig apiConfig = new ApiConfig();
+        this.enabled = Boolean.parseBoolean(System.getProperty(PROP_COOKIE_JAR_ENABLED,
+                String.valueOf(apiConfig.getBooleanProperty(PROP_COOKIE_JAR_ENABLED, true))));
+        this.maxCookies = apiConfig.getIntProperty(PROP_COOKIE_JAR_MAX_COOKIES, 32);
+    }
+
+    /**
+     * Get shared cookie jar instance
+     */
+    public static SessionCookieJar getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new SessionCookieJar();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Store the auth cookie issued at login for a session
+     */
+    public void seedAuthCookie(String sessionKey, String authCookie) {
+        if (!enabled || authCookie == null || authCookie.isEmpty()) {
+            return;
+        }
+        jars.compute(sessionKey, (key, current) -> (current != null ? current : CookieSet.EMPTY)
+                .with(AUTH_COOKIE_NAME, authCookie, maxCookies));
+    }
+
+    /**
+     * Apply Set-Cookie headers of a response to the session's jar (expired cookies are removed)
+     */
+    public void capture(String sessionKey, Response response) {
+        if (!enabled || response == null || !response.getHeaders().hasHeaderWithName("Set-Cookie")) {
+            return;
+        }
+        Cookies cookies = response.getDetailedCookies();
+        long now = System.currentTimeMillis();
+        jars.compute(sessionKey, (key, current) -> {
+            CookieSet updated = current != null ? current : CookieSet.EMPTY;
+            for (Cookie cookie : cookies) {
+                Date expiry = cookie.getExpiryDate();
+                boolean expired = cookie.getMaxAge() == 0 || (expiry != null && expiry.getTime() <= now);
+                updated = expired || cookie.getValue() == null || cookie.getValue().isEmpty()
+                        ? updated.without(cookie.getName())
+                        : updated.with(cookie.getName(), cookie.getValue(), maxCookies);
+            }
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    /**
+     * Cookie header value to send for a session, or null when the jar is empty
+     */
+    public String getCookieHeader(String sessionKey) {
+        if (!enabled) {
+            return null;
+        }
+        CookieSet cookies = jars.get(sessionKey);
+        return cookies != null ? cookies.header : null;
+    }
+
+    /**
+     * Drop all cookies of a session (e.g. after re-authentication)
+     */
+    public void clear(String sessionKey) {
+        jars.remove(sessionKey);
+    }
+
+    /**
+     * Drop all cookies of all sessions
+     */
+    public void clearAll() {
+        jars.clear();
+    }
+
+    /**
+     * Immutable cookie set - two parallel arrays plus the rendered header, copied on write
+     */
+    private static final class CookieSet {
+        private static final CookieSet EMPTY = new CookieSet(new String[0], new String[0]);
+
+        private final String[] names;
+        private final String[] values;
+        private final String header;
+
+        private CookieSet(String[] names, String[] values) {
+            this.names = names;
+            this.values = values;
+            StringBuilder rendered = new StringBuilder();
+            for (int i = 0; i < names.length; i++) {
+                if (i > 0) {
+                    rendered.append("; ");
+                }
+                rendered.append(names[i]).append('=').append(values[i]);
+            }
+            this.header = rendered.length() > 0 ? rendered.toString() : null;
+        }
+
+        private boolean isEmpty() {
+            return names.length == 0;
+        }
+
+        private int indexOf(String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private CookieSet with(String name, String value, int maxCookies) {
+            int index = indexOf(name);
+            if (index >= 0) {
+                if (values[index].equals(value)) {
+                    return this;
+                }
+                String[] newValues = values.clone();
+                newValues[index] = value;
+                return new CookieSet(names, newValues);
+            }
+            if (names.length >= maxCookies) {
+                logger.logWarning("Cookie jar full (" + maxCookies + " cookies), ignoring cookie: " + name);
+                return this;
+            }
+            String[] newNames = Arrays.copyOf(names, names.length + 1);
+            String[] newValues = Arrays.copyOf(values, values.length + 1);
+            newNames[names.length] = name;
+            newValues[values.length] = value;
+            return new CookieSet(newNames, newValues);
+        }
+
+        private CookieSet without(String name) {
+            int index = indexOf(name);
+            if (index < 0) {
+                return this;
+            }
+            String[] newNames = new String[names.length - 1];
+            String[] newValues = new String[values.length - 1];
+            System.arraycopy(names, 0, newNames, 0, index);
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(names, index + 1, newNames, index, names.length - index - 1);
+            System.arraycopy(values, index + 1, newValues, index, values.length - index - 1);
+            return new CookieSet(newNames, newValues);
+        }
+    }
+}
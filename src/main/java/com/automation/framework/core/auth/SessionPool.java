@@ -0,0 +1,268 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.automation.framework.core.metrics.Counter;
+import com.automation.framework.core.metrics.FrameworkMetrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SessionPool spreads API calls over several authenticated users instead of the single default session
+ * Users come from auth.pool.users (comma separated) and/or auth.pool.users.file (one loginId per line).
+ * Sessions are leased round-robin per request or sticky per thread / virtual user (auth.pool.strategy).
+ * Without configured users every lease returns the default session, so single-user runs are unchanged.
+ */
+public class SessionPool {
+    private static final LoggingInterface logger = new ApiLogger(SessionPool.class);
+
+    public static final String DEFAULT_SESSION = "default_session";
+    private static final String SESSION_KEY_PREFIX = "pool_";
+
+    // Configuration keys for session pool properties
+    private static final String PROP_POOL_USERS = "auth.pool.users";
+    private static final String PROP_POOL_USERS_FILE = "auth.pool.users.file";
+    private static final String PROP_POOL_STRATEGY = "auth.pool.strategy";
+    private static final String PROP_POOL_WARMUP_THREADS = "auth.pool.warmup.threads";
+    private static final String PROP_POOL_CLEANUP_OTP_LIMITS = "auth.pool.cleanup.otp.limits";
+
+    /**
+     * How sessions are handed out to callers
+     */
+    public enum LeaseStrategy {
+        ROUND_ROBIN, STICKY
+    }
+
+    private static volatile SessionPool instance;
+    private static final Object lock = new Object();
+
+    private final List<String> sessionKeys;
+    private final List<String> loginIds;
+    private final LeaseStrategy strategy;
+    private final int warmupThreads;
+    private final boolean cleanupOtpLimits;
+    private final AtomicLong nextIndex = new AtomicLong();
+    private final Map<String, String> stickyAssignments = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> threadSession = new ThreadLocal<>();
+    private final ThreadLocal<String> currentLease = new ThreadLocal<>();
+    private volatile boolean warmedUp;
+
+    private SessionPool() {
+        ApiConfig apiConfig = new ApiConfig();
+        this.strategy = parseStrategy(System.getProperty(PROP_POOL_STRATEGY,
+                apiConfig.getProperty(PROP_POOL_STRATEGY, "sticky")));
+        this.warmupThreads = apiConfig.getIntProperty(PROP_POOL_WARMUP_THREADS, 4);
+        this.cleanupOtpLimits = apiConfig.getBooleanProperty(PROP_POOL_CLEANUP_OTP_LIMITS, false);
+
+        this.loginIds = Collections.unmodifiableList(loadLoginIds(apiConfig));
+        List<String> keys = new ArrayList<>();
+        SessionAuthenticationManager sessionAuthManager = SessionAuthenticationManager.getInstance();
+        for (String loginId : loginIds) {
+            String sessionKey = SESSION_KEY_PREFIX + (keys.size() + 1);
+            sessionAuthManager.registerSessionUser(sessionKey, loginId);
+            keys.add(sessionKey);
+        }
+        this.sessionKeys = Collections.unmodifiableList(keys);
+
+        if (isEnabled()) {
+            logger.logInfo("Session pool configured with " + sessionKeys.size() + " users, strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Get shared pool instance
+     */
+    public static SessionPool getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new SessionPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return !sessionKeys.isEmpty();
+    }
+
+    public List<String> getSessionKeys() {
+        return sessionKeys;
+    }
+
+    /**
+     * Authenticate all pooled users concurrently - called once at startup, later calls return immediately
+     * Failed users are logged and authenticate again lazily on first lease.
+     */
+    public void warmUp() {
+        if (!isEnabled() || warmedUp) {
+            return;
+        }
+        synchronized (this) {
+            if (warmedUp) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            if (cleanupOtpLimits) {
+                // Many logins in a burst would otherwise trip the per-user OTP rate limits
+                RedisManager.getInstance().deleteOtpLimits(loginIds);
+            }
+            SessionAuthenticationManager sessionAuthManager = SessionAuthenticationManager.getInstance();
+            AtomicInteger threadCounter = new AtomicInteger();
+            ExecutorService warmupPool = Executors.newFixedThreadPool(Math.max(1, Math.min(warmupThreads, sessionKeys.size())),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "session-pool-warmup-" + threadCounter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            try {
+                Map<String, Future<String>> logins = new LinkedHashMap<>();
+                for (String sessionKey : sessionKeys) {
+                    logins.put(sessionKey, warmupPool.submit(() -> sessionAuthManager.getSessionAuthToken(sessionKey)));
+                }
+                int failures = 0;
+                for (Map.Entry<String, Future<String>> login : logins.entrySet()) {
+                    try {
+                        login.getValue().get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        failures++;
+                        logger.logWarning("Session pool warm-up failed for " + login.getKey() + ": "
+                                          + (e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+                    }
+                }
+                logger.logInfo("Session pool warm-up completed in " + (System.currentTimeMillis() - start) + " ms ("
+                               + (sessionKeys.size() - failures) + "/" + sessionKeys.size() + " users authenticated)");
+            } finally {
+                warmupPool.shutdownNow();
+                warmedUp = true;
+            }
+        }
+    }
+
+    /**
+     * Lease a session for the next request of the calling thread
+     * ROUND_ROBIN rotates on every lease, STICKY keeps the first session assigned to the thread.
+     */
+    public String lease() {
+        String sessionKey;
+        if (!isEnabled()) {
+            sessionKey = DEFAULT_SESSION;
+        } else if (strategy == LeaseStrategy.ROUND_ROBIN) {
+            sessionKey = nextSessionKey();
+        } else {
+            sessionKey = threadSession.get();
+            if (sessionKey == null) {
+                sessionKey = nextSessionKey();
+                threadSession.set(sessionKey);
+            }
+        }
+        return recordLease(sessionKey);
+    }
+
+    /**
+     * Lease the session bound to a virtual user - the same id always maps to the same session
+     * Use when virtual users are not tied to one thread (e.g. load scenarios on an executor).
+     */
+    public String lease(String virtualUserId) {
+        if (!isEnabled() || virtualUserId == null) {
+            return lease();
+        }
+        return recordLease(stickyAssignments.computeIfAbsent(virtualUserId, id -> nextSessionKey()));
+    }
+
+    /**
+     * Session used by the calling thread's most recent lease (default session if none)
+     */
+    public String currentSessionKey() {
+        String sessionKey = currentLease.get();
+        return sessionKey != null ? sessionKey : DEFAULT_SESSION;
+    }
+
+    /**
+     * Number of requests issued through each session so far
+     */
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String sessionKey : isEnabled() ? sessionKeys : Collections.singletonList(DEFAULT_SESSION)) {
+            counts.put(sessionKey, requestCounter(sessionKey).get());
+        }
+        return counts;
+    }
+
+    private String nextSessionKey() {
+        return sessionKeys.get((int) (nextIndex.getAndIncrement() % sessionKeys.size()));
+    }
+
+    private String recordLease(String sessionKey) {
+        currentLease.set(sessionKey);
+        requestCounter(sessionKey).inc();
+        return sessionKey;
+    }
+
+    private static Counter requestCounter(String sessionKey) {
+        return FrameworkMetrics.SESSION_REQUESTS.labels(sessionKey);
+    }
+
+    /**
+     * Collect pooled loginIds from config and the optional users file, keeping first occurrence order
+     */
+    private static List<String> loadLoginIds(ApiConfig apiConfig) {
+        Set<String> loginIds = new LinkedHashSet<>();
+
+        String users = System.getProperty(PROP_POOL_USERS, apiConfig.getProperty(PROP_POOL_USERS, ""));
+        for (String user : users.split(",")) {
+            if (!user.trim().isEmpty()) {
+                loginIds.add(user.trim());
+            }
+        }
+
+        String usersFile = System.getProperty(PROP_POOL_USERS_FILE, apiConfig.getProperty(PROP_POOL_USERS_FILE, ""));
+        if (!usersFile.trim().isEmpty()) {
+            try {
+                for (String line : Files.readAllLines(Paths.get(usersFile.trim()), StandardCharsets.UTF_8)) {
+                    String user = line.trim();
+                    if (!user.isEmpty() && !user.startsWith("#")) {
+                        loginIds.add(user);
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read session pool users file: " + usersFile, e);
+            }
+        }
+        return new ArrayList<>(loginIds);
+    }
+
+    private static LeaseStrategy parseStrategy(String value) {
+        switch (value.trim().toLowerCase()) {
+            case "round_robin":
+            case "round-robin":
+                return LeaseStrategy.ROUND_ROBIN;
+            case "sticky":
+                return LeaseStrategy.STICKY;
+            default:
+                throw new IllegalArgumentException("Unknown session pool strategy: " + value +
+                                                   ". Available strategies: round_robin, sticky");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.automation.framework.core.auth;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenRefreshScheduler triggers proactive token refresh ahead of expiry
+ * A refresh is scheduled at a configurable fraction of the token lifetime so that
+ * no request has to pay the OTP + login cost inline when a token expires.
+ */
+public class TokenRefreshScheduler {
+    private static final LoggingInterface logger = new ApiLogger(TokenRefreshScheduler.class);
+
+    // Configuration keys for refresh properties
+    private static final String PROP_REFRESH_ENABLED = "auth.token.refresh.enabled";
+    private static final String PROP_REFRESH_FRACTION = "auth.token.refresh.fraction";
+    private static final String PROP_REFRESH_RETRY_SECONDS = "auth.token.refresh.retry.seconds";
+
+    private final boolean enabled;
+    private final double refreshFraction;
+    private final long retryDelayMs;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
+
+    public TokenRefreshScheduler(ApiConfig apiConfig) {
+        this.enabled = apiConfig.getBooleanProperty(PROP_REFRESH_ENABLED, true);
+        double fraction = Double.parseDouble(apiConfig.getProperty(PROP_REFRESH_FRACTION, "0.8"));
+        this.refreshFraction = Math.max(0.1, Math.min(0.99, fraction));
+        this.retryDelayMs = apiConfig.getIntProperty(PROP_REFRESH_RETRY_SECONDS, 60) * 1000L;
+        this.scheduler = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auth-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Schedule the next refresh for a session at refreshFraction of its token lifetime
+     */
+    public void scheduleRefresh(String sessionKey, SessionAuthenticationManager.SessionAuthData authData, Runnable refresh) {
+        if (!enabled) {
+            return;
+        }
+        long refreshAt = authData.getTimestamp() + (long) (authData.getExpiryDuration() * refreshFraction);
+        long delay = Math.max(0, refreshAt - System.currentTimeMillis());
+        schedule(sessionKey, delay, refresh);
+        logger.logDebug("Scheduled token refresh for session: " + sessionKey + " in " + delay + " ms");
+    }
+
+    /**
+     * Retry a failed refresh while the current token is still valid
+     */
+    public void scheduleRetry(String sessionKey, SessionAuthenticationManager.SessionAuthData currentData, Runnable refresh) {
+        if (!enabled || currentData == null || currentData.isExpired()) {
+            return;
+        }
+        long delay = Math.min(retryDelayMs, currentData.getRemainingTime());
+        schedule(sessionKey, delay, refresh);
+        logger.logDebug("Retrying token refresh for session: " + sessionKey + " in " + delay + " ms");
+    }
+
+    /**
+     * Cancel the pending refresh of a session
+     */
+    public void cancel(String sessionKey) {
+        ScheduledFuture<?> pending = scheduledRefreshes.remove(sessionKey);
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    /**
+     * Cancel all pending refreshes
+     */
+    public void cancelAll() {
+        scheduledRefreshes.keySet().forEach(this::cancel);
+    }
+
+    private void schedule(String sessionKey, long delayMs, Runnable refresh) {
+        ScheduledFuture<?> future = scheduler.schedule(refresh, delayMs, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = scheduledRefreshes.put(sessionKey, future);
+        if (previous != null && previous != future) {
+            previous.cancel(false);
+        }
+    }
+}
@@ -3,75 +3,122 @@ package com.automation.framework.core.auth;
 import com.automation.framework.core.interfaces.LoggingInterface;
 import com.automation.framework.core.logging.ApiLogger;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * TokenStorage manages authentication tokens and cookies for different users
- * Thread-safe storage for parallel test execution
+ * Thread-safe storage for parallel test execution.
+ *
+ * Each user has one immutable record (token, cookie, issue time) so a token is never paired with
+ * a cookie from another login. Reads are lock-free map lookups that drop expired records themselves;
+ * writes advance a hashed timer wheel that expires idle records, and the store is bounded with
+ * approximate LRU eviction (CLOCK: readers set a referenced flag, eviction gives flagged records a second chance).
  */
 public class TokenStorage {
     private static final LoggingInterface logger = new ApiLogger(TokenStorage.class);
-    
-    // Using ConcurrentHashMap for thread-safe operations
-    private final Map<String, String> accessTokens = new ConcurrentHashMap<>();
-    private final Map<String, String> cookies = new ConcurrentHashMap<>();
-    private final Map<String, Long> tokenTimestamps = new ConcurrentHashMap<>();
-    
+
     // Token expiry time in milliseconds (default: 24 hours)
-    private final long TOKEN_EXPIRY_TIME = 24 * 60 * 60 * 1000;
-    
+    private static final long DEFAULT_TOKEN_EXPIRY_TIME = 24 * 60 * 60 * 1000L;
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    // Timer wheel: 512 slots of one minute cover ~8.5 hours per revolution
+    private static final int WHEEL_SIZE = 512;
+    private static final long TICK_MS = 60 * 1000L;
+
+    // Guards the wheel and the eviction queue; never taken by readers
+    private final Object lock = new Object();
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private volatile long tokenExpiryTime;
+
+    private final ConcurrentHashMap<String, TokenEntry> entries = new ConcurrentHashMap<>();
+    private final List<Set<String>> wheel = new ArrayList<>(WHEEL_SIZE);
+    // Records in insertion order; replaced or expired records stay until polled or compacted
+    private final ArrayDeque<TokenEntry> evictionQueue = new ArrayDeque<>();
+    private long lastTick;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public TokenStorage() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TOKEN_EXPIRY_TIME);
+    }
+
+    public TokenStorage(int maxEntries, long tokenExpiryTime) {
+        this(maxEntries, tokenExpiryTime, System::currentTimeMillis);
+    }
+
+    /**
+     * Storage on an explicit millisecond clock (tests drive expiry without waiting)
+     */
+    TokenStorage(int maxEntries, long tokenExpiryTime, LongSupplier clock) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.tokenExpiryTime = tokenExpiryTime;
+        this.clock = clock;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new HashSet<>());
+        }
+        this.lastTick = clock.getAsLong() / TICK_MS;
+    }
+
     /**
      * Store authentication token and cookie for a user
      */
     public void storeToken(String userId, String accessToken, String cookie) {
+        storeToken(userId, accessToken, cookie, clock.getAsLong());
+    }
+
+    /**
+     * Store authentication token and cookie issued at a known time (restored tokens keep their age)
+     * Replaces the user's whole record - token and cookie always come from the same login.
+     */
+    public void storeToken(String userId, String accessToken, String cookie, long issuedAt) {
         if (userId == null || userId.trim().isEmpty()) {
             logger.logWarning("Cannot store token: userId is null or empty");
             return;
         }
-        
-        String tokenKey = "auth_" + userId;
-        String cookieKey = "cookie_" + userId;
-        
-        if (accessToken != null && !accessToken.trim().isEmpty()) {
-            accessTokens.put(tokenKey, accessToken.trim());
-            tokenTimestamps.put(tokenKey, System.currentTimeMillis());
-            logger.logDebug("Stored access token for user: " + userId);
+
+        TokenEntry entry = new TokenEntry(userId, trimToNull(accessToken), trimToNull(cookie), issuedAt + tokenExpiryTime);
+        List<String> expired;
+        String evicted = null;
+        synchronized (lock) {
+            expired = advanceWheel(clock.getAsLong());
+            TokenEntry previous = entries.put(userId, entry);
+            if (previous != null) {
+                unschedule(userId, previous);
+            }
+            schedule(userId, entry);
+            evictionQueue.add(entry);
+            if (entries.size() > maxEntries) {
+                evicted = evictNotRecentlyUsed();
+            }
+            compactEvictionQueue();
         }
-        
-        if (cookie != null && !cookie.trim().isEmpty()) {
-            cookies.put(cookieKey, cookie.trim());
-            logger.logDebug("Stored cookie for user: " + userId);
+        logExpired(expired);
+        if (evicted != null) {
+            logger.logDebug("Evicted least recently used token for user: " + evicted);
         }
+        logger.logDebug("Stored authentication data for user: " + userId);
     }
-    
+
     /**
      * Get authentication header (Bearer token) for a user
      */
     public String getAuthHeader(String userId) {
-        if (userId == null || userId.trim().isEmpty()) {
-            logger.logWarning("Cannot get auth header: userId is null or empty");
-            return null;
-        }
-        
-        String tokenKey = "auth_" + userId;
-        String accessToken = accessTokens.get(tokenKey);
-        
-        if (accessToken == null) {
-            logger.logDebug("No access token found for user: " + userId);
-            return null;
-        }
-        
-        // Check if token is expired
-        if (isTokenExpired(tokenKey)) {
-            logger.logWarning("Access token expired for user: " + userId);
-            removeToken(userId);
-            return null;
-        }
-        
-        return "Bearer " + accessToken;
+        String accessToken = getAccessToken(userId);
+        return accessToken != null ? "Bearer " + accessToken : null;
     }
-    
+
     /**
      * Get raw access token for a user
      */
@@ -80,25 +127,15 @@ public class TokenStorage {
             logger.logWarning("Cannot get access token: userId is null or empty");
             return null;
         }
-        
-        String tokenKey = "auth_" + userId;
-        String accessToken = accessTokens.get(tokenKey);
-        
-        if (accessToken == null) {
+
+        TokenEntry entry = getEntry(userId);
+        if (entry == null || entry.accessToken == null) {
             logger.logDebug("No access token found for user: " + userId);
             return null;
         }
-        
-        // Check if token is expired
-        if (isTokenExpired(tokenKey)) {
-            logger.logWarning("Access token expired for user: " + userId);
-            removeToken(userId);
-            return null;
-        }
-        
-        return accessToken;
+        return entry.accessToken;
     }
-    
+
     /**
      * Get cookie for a user
      */
@@ -107,17 +144,15 @@ public class TokenStorage {
             logger.logWarning("Cannot get cookie: userId is null or empty");
             return null;
         }
-        
-        String cookieKey = "cookie_" + userId;
-        String cookie = cookies.get(cookieKey);
-        
-        if (cookie == null) {
+
+        TokenEntry entry = getEntry(userId);
+        if (entry == null || entry.cookie == null) {
             logger.logDebug("No cookie found for user: " + userId);
+            return null;
         }
-        
-        return cookie;
+        return entry.cookie;
     }
-    
+
     /**
      * Remove tokens for a user (logout)
      */
@@ -126,21 +161,22 @@ public class TokenStorage {
             logger.logWarning("Cannot remove token: userId is null or empty");
             return;
         }
-        
-        String tokenKey = "auth_" + userId;
-        String cookieKey = "cookie_" + userId;
-        
-        boolean tokenRemoved = accessTokens.remove(tokenKey) != null;
-        boolean timestampRemoved = tokenTimestamps.remove(tokenKey) != null;
-        boolean cookieRemoved = cookies.remove(cookieKey) != null;
-        
-        if (tokenRemoved || timestampRemoved || cookieRemoved) {
+
+        TokenEntry removed;
+        synchronized (lock) {
+            removed = entries.remove(userId);
+            if (removed != null) {
+                unschedule(userId, removed);
+            }
+        }
+
+        if (removed != null) {
             logger.logDebug("Removed authentication data for user: " + userId);
         } else {
             logger.logDebug("No authentication data found to remove for user: " + userId);
         }
     }
-    
+
     /**
      * Check if user has valid token
      */
@@ -148,59 +184,246 @@ public class TokenStorage {
         if (userId == null || userId.trim().isEmpty()) {
             return false;
         }
-        
-        String tokenKey = "auth_" + userId;
-        return accessTokens.containsKey(tokenKey) && !isTokenExpired(tokenKey);
+        TokenEntry entry = getEntry(userId);
+        return entry != null && entry.accessToken != null;
     }
-    
-    /**
-     * Check if token is expired
-     */
-    private boolean isTokenExpired(String tokenKey) {
-        Long timestamp = tokenTimestamps.get(tokenKey);
-        if (timestamp == null) {
-            return true;
-        }
-        
-        long currentTime = System.currentTimeMillis();
-        return (currentTime - timestamp) > TOKEN_EXPIRY_TIME;
-    }
-    
+
     /**
      * Clear all stored tokens (cleanup)
      */
     public void clearAllTokens() {
-        int tokenCount = accessTokens.size();
-        int cookieCount = cookies.size();
-        
-        accessTokens.clear();
-        cookies.clear();
-        tokenTimestamps.clear();
-        
-        logger.logInfo("Cleared " + tokenCount + " access tokens and " + cookieCount + " cookies from storage");
+        int userCount;
+        synchronized (lock) {
+            userCount = entries.size();
+            entries.clear();
+            wheel.forEach(Set::clear);
+            evictionQueue.clear();
+        }
+        logger.logInfo("Cleared authentication data of " + userCount + " users from storage (" + getStats() + ")");
     }
-    
+
     /**
      * Get count of stored users
      */
     public int getStoredUserCount() {
-        return accessTokens.size();
+        List<String> expired;
+        synchronized (lock) {
+            expired = advanceWheel(clock.getAsLong());
+        }
+        logExpired(expired);
+        return entries.size();
     }
-    
+
     /**
      * Get all stored user IDs (for debugging)
      */
-    public java.util.Set<String> getStoredUserIds() {
-        return accessTokens.keySet().stream()
-                .map(key -> key.replace("auth_", ""))
-                .collect(java.util.stream.Collectors.toSet());
+    public Set<String> getStoredUserIds() {
+        List<String> expired;
+        synchronized (lock) {
+            expired = advanceWheel(clock.getAsLong());
+        }
+        logExpired(expired);
+        return new HashSet<>(entries.keySet());
     }
-    
+
     /**
-     * Update token expiry time
+     * Update token expiry time (applies to tokens stored from now on)
      */
     public void setTokenExpiryTime(long expiryTimeMs) {
-        // This could be made configurable per instance if needed
+        this.tokenExpiryTime = expiryTimeMs;
         logger.logInfo("Token expiry time updated to: " + expiryTimeMs + " ms");
     }
-}
\ No newline at end of file
+
+    /**
+     * Snapshot of lookup and eviction counters
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), entries.size());
+    }
+
+    /**
+     * Look up a live entry without locking, counting the hit or miss
+     */
+    private TokenEntry getEntry(String userId) {
+        TokenEntry entry = entries.get(userId);
+        if (entry != null) {
+            if (entry.expiresAt <= clock.getAsLong()) {
+                // Expired before the wheel reached it - its wheel slot drops the user on the next advance
+                if (entries.remove(userId, entry)) {
+                    expirations.increment();
+                }
+                logger.logWarning("Access token expired for user: " + userId);
+                entry = null;
+            } else {
+                entry.touch();
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * CLOCK eviction (caller holds lock): records read since they were last passed get a second chance,
+     * the first unreferenced live record is removed. New records start referenced, so the record just
+     * stored is only evicted after every other record had its chance.
+     */
+    private String evictNotRecentlyUsed() {
+        TokenEntry candidate;
+        while ((candidate = evictionQueue.poll()) != null) {
+            if (entries.get(candidate.userId) != candidate) {
+                continue; // replaced, removed or expired since it was queued
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                evictionQueue.add(candidate);
+                continue;
+            }
+            if (entries.remove(candidate.userId, candidate)) {
+                unschedule(candidate.userId, candidate);
+                evictions.increment();
+                return candidate.userId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop queued records that are no longer live once they outnumber the live ones (caller holds lock)
+     * Amortized O(1) per store, keeps the queue bounded when users refresh their tokens repeatedly.
+     */
+    private void compactEvictionQueue() {
+        if (evictionQueue.size() > 2 * entries.size() + 64) {
+            evictionQueue.removeIf(queued -> entries.get(queued.userId) != queued);
+        }
+    }
+
+    /**
+     * Expire entries in every wheel slot passed since the last advance (caller holds lock)
+     * Slots hold users of all revolutions; only entries actually due are removed. Users whose current
+     * entry lives in another slot (replaced after a lock-free expiry) are dropped from this one.
+     * @return users whose tokens expired, logged by the caller after releasing the lock
+     */
+    private List<String> advanceWheel(long now) {
+        long currentTick = now / TICK_MS;
+        if (currentTick <= lastTick) {
+            return Collections.emptyList();
+        }
+        List<String> expired = new ArrayList<>();
+        long ticks = Math.min(currentTick - lastTick, WHEEL_SIZE);
+        for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+            int slotIndex = (int) (tick % WHEEL_SIZE);
+            wheel.get(slotIndex).removeIf(userId -> {
+                TokenEntry entry = entries.get(userId);
+                if (entry == null || slotOf(entry) != slotIndex) {
+                    return true;
+                }
+                if (entry.expiresAt <= now) {
+                    if (entries.remove(userId, entry)) {
+                        expirations.increment();
+                        expired.add(userId);
+                    }
+                    return true;
+                }
+                return false;
+            });
+        }
+        lastTick = currentTick;
+        return expired;
+    }
+
+    private static void logExpired(List<String> expired) {
+        for (String userId : expired) {
+            logger.logDebug("Expired access token for user: " + userId);
+        }
+    }
+
+    private void schedule(String userId, TokenEntry entry) {
+        wheel.get(slotOf(entry)).add(userId);
+    }
+
+    private void unschedule(String userId, TokenEntry entry) {
+        wheel.get(slotOf(entry)).remove(userId);
+    }
+
+    private static int slotOf(TokenEntry entry) {
+        return (int) ((entry.expiresAt / TICK_MS) % WHEEL_SIZE);
+    }
+
+    private static String trimToNull(String value) {
+        return value != null && !value.trim().isEmpty() ? value.trim() : null;
+    }
+
+    /**
+     * Per-user record - token and cookie of one login are immutable; only the referenced flag moves
+     */
+    private static final class TokenEntry {
+        private final String userId;
+        private final String accessToken;
+        private final String cookie;
+        private final long expiresAt;
+        private volatile boolean referenced = true;
+
+        private TokenEntry(String userId, String accessToken, String cookie, long expiresAt) {
+            this.userId = userId;
+            this.accessToken = accessToken;
+            this.cookie = cookie;
+            this.expiresAt = expiresAt;
+        }
+
+        private void touch() {
+            // Read before write so hot records are not rewritten on every lookup
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+
+    /**
+     * Token storage statistics
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final int size;
+
+        private Stats(long hits, long misses, long evictions, long expirations, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getExpirations() {
+            return expirations;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "size=" + size + ", hits=" + hits + ", misses=" + misses
+                   + ", evictions=" + evictions + ", expirations=" + expirations;
+        }
+    }
+}
@@ -12,6 +12,15 @@ import com.automation.framework.core.factory.ReportManagerFactory;
 import com.automation.framework.core.factory.ResponseValidatorFactory;
 import com.automation.framework.core.auth.SessionAuthenticationManager;
 import com.automation.framework.core.auth.HeaderManager;
+import com.automation.framework.core.auth.SessionCookieJar;
+import com.automation.framework.core.auth.SessionPool;
+import com.automation.framework.core.jfr.ApiCallEvent;
+import com.automation.framework.core.jfr.ValidationEvent;
+import com.automation.framework.core.local.LocalEnvironment;
+import com.automation.framework.core.metrics.FrameworkMetrics;
+import com.automation.framework.core.metrics.MetricsExporter;
+import com.automation.framework.core.reporting.ReportCapturePolicy;
+import com.automation.framework.shared.data.TestDataCache;
 import com.automation.framework.shared.utils.HttpMethod;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.RestAssured;
@@ -19,6 +28,7 @@ import io.restassured.response.Response;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.AfterClass;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract base class that ENFORCES API test architecture patterns through Template Method pattern.
@@ -88,12 +98,13 @@ public abstract class BaseApiTest implements ApiTestInterface {
     protected ObjectMapper objectMapper;
     protected SessionAuthenticationManager sessionAuthManager;
     protected HeaderManager headerManager;
+    protected ReportCapturePolicy capturePolicy;
     
-    // Test counters for dynamic reporting
-    private int totalTests = 0;
-    private int passedTests = 0;
-    private int failedTests = 0;
-    private int skippedTests = 0;
+    // Test counters for dynamic reporting - rows of parallel data providers update them concurrently
+    private final AtomicInteger totalTests = new AtomicInteger();
+    private final AtomicInteger passedTests = new AtomicInteger();
+    private final AtomicInteger failedTests = new AtomicInteger();
+    private final AtomicInteger skippedTests = new AtomicInteger();
     
     // ==================== ABSTRACT METHODS (ENFORCED IMPLEMENTATION) ====================
     
@@ -129,18 +140,31 @@ public abstract class BaseApiTest implements ApiTestInterface {
         // Initialize core dependencies
         apiConfig = new ApiConfig();
         
+        // Start in-process Redis and auth stub for offline runs (-Denv=local)
+        LocalEnvironment.startIfConfigured(apiConfig);
+        
+        // Parse configured test data files in the background once per run (no-op without test.data.prewarm.paths)
+        TestDataCache.getInstance().prewarmConfigured(apiConfig);
+        
         responseValidator = ResponseValidatorFactory.createValidator();
         testDataProvider = DataProviderFactory.createDataProvider();
         testLogger = LoggerFactory.createLogger();
-        reportManager = ReportManagerFactory.createReportManager();
+        reportManager = ReportManagerFactory.createReportManagerFromSystemProperty();
+        capturePolicy = new ReportCapturePolicy(apiConfig);
         objectMapper = new ObjectMapper();
         
         // Initialize session-based authentication manager
         sessionAuthManager = SessionAuthenticationManager.getInstance();
         
+        // Authenticate pooled users concurrently once per run (no-op without auth.pool.users)
+        SessionPool.getInstance().warmUp();
+        
         // Initialize header manager
         headerManager = new HeaderManager();
         
+        // Start live metrics endpoint once per run (no-op when not configured)
+        MetricsExporter.startIfConfigured(apiConfig);
+        
         // Configure RestAssured with base URL from config
         RestAssured.baseURI = apiConfig.getBaseUrl();
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
@@ -215,8 +239,9 @@ public abstract class BaseApiTest implements ApiTestInterface {
      * @param executor - test execution logic
      */
     protected final void executeTest(String testName, String description, ApiTestExecutor executor) {
-        totalTests++;
+        totalTests.incrementAndGet();
         reportManager.startTest(testName, description);
+        capturePolicy.beginTest();
         
         String className = this.getClass().getSimpleName();
         testLogger.logTestStart(testName, className);
@@ -225,9 +250,10 @@ public abstract class BaseApiTest implements ApiTestInterface {
         
         try {
             executor.execute();
-            passedTests++;
+            passedTests.incrementAndGet();
             long endTime = System.currentTimeMillis();
             testLogger.logTestEnd(testName, STATUS_COMPLETED, endTime - startTime);
+            capturePolicy.onTestPassed();
             reportManager.markTestPassed(testName, MSG_TEST_COMPLETED_SUCCESS);
         } catch (AssertionError e) {
             // Test assertions failed - let TestNG handle these naturally
@@ -251,10 +277,11 @@ public abstract class BaseApiTest implements ApiTestInterface {
      * @param startTime - test start time for duration calculation
      */
     private void logTestFailure(String testName, Throwable exception, long startTime) {
-        failedTests++;
+        failedTests.incrementAndGet();
         long endTime = System.currentTimeMillis();
         testLogger.logTestEnd(testName, STATUS_FAILED, endTime - startTime);
         testLogger.logError(MSG_TEST_FAILED_EXCEPTION, exception);
+        capturePolicy.onTestFailed(reportManager);
         reportManager.markTestFailed(testName, MSG_TEST_FAILED_PREFIX + exception.getMessage(), exception);
     }
     
@@ -299,56 +326,75 @@ public abstract class BaseApiTest implements ApiTestInterface {
         // Build headers with session-based authentication
         Map<String, String> finalHeaders = headerManager.buildApiHeaders(apiConfig, testSpecificHeaders);
         testLogger.logApiRequest(method.getValue(), endpoint, body);
-        reportManager.logApiRequest(method.getValue(), endpoint, body, finalHeaders.toString());
+        capturePolicy.captureRequest(reportManager, method.getValue(), endpoint, body, finalHeaders);
         
         String fullUrl = apiConfig.getBaseUrl() + endpoint;
         testLogger.logInfo(MSG_FULL_REQUEST_URL + fullUrl);
         testLogger.logInfo(MSG_REQUEST_HEADERS + finalHeaders.toString());
         
         Response response;
-        switch(method) {
-            case GET:
-                response = RestAssured.given()
-                        .headers(finalHeaders)
-                        .when()
-                        .get(endpoint)
-                        .then()
-                        .extract()
-                        .response();
-                break;
-            case POST:
-                response = RestAssured.given()
-                        .headers(finalHeaders)
-                        .body(body != null ? body : EMPTY_BODY)
-                        .when()
-                        .post(endpoint)
-                        .then()
-                        .extract()
-                        .response();
-                break;
-            case PUT:
-                response = RestAssured.given()
-                        .headers(finalHeaders)
-                        .body(body != null ? body : EMPTY_BODY)
-                        .when()
-                        .put(endpoint)
-                        .then()
-                        .extract()
-                        .response();
-                break;
-            case DELETE:
-                response = RestAssured.given()
-                        .headers(finalHeaders)
-                        .when()
-                        .delete(endpoint)
-                        .then()
-                        .extract()
-                        .response();
-                break;
-            default:
-                throw new IllegalArgumentException(ERROR_UNSUPPORTED_HTTP_METHOD + method.getValue());
+        ApiCallEvent callEvent = new ApiCallEvent();
+        callEvent.begin();
+        long callStart = System.nanoTime();
+        FrameworkMetrics.API_IN_FLIGHT.inc();
+        try {
+            switch(method) {
+                case GET:
+                    response = RestAssured.given()
+                            .headers(finalHeaders)
+                            .when()
+                            .get(endpoint)
+                            .then()
+                            .extract()
+                            .response();
+                    break;
+                case POST:
+                    response = RestAssured.given()
+                            .headers(finalHeaders)
+                            .body(body != null ? body : EMPTY_BODY)
+                            .when()
+                            .post(endpoint)
+                            .then()
+                            .extract()
+                            .response();
+                    break;
+                case PUT:
+                    response = RestAssured.given()
+                            .headers(finalHeaders)
+                            .body(body != null ? body : EMPTY_BODY)
+                            .when()
+                            .put(endpoint)
+                            .then()
+                            .extract()
+                            .response();
+                    break;
+                case DELETE:
+                    response = RestAssured.given()
+                            .headers(finalHeaders)
+                            .when()
+                            .delete(endpoint)
+                            .then()
+                            .extract()
+                            .response();
+                    break;
+                default:
+                    throw new IllegalArgumentException(ERROR_UNSUPPORTED_HTTP_METHOD + method.getValue());
+            }
+        } catch (RuntimeException e) {
+            long failedNanos = System.nanoTime() - callStart;
+            FrameworkMetrics.recordApiFailure(method.getValue(), endpoint, failedNanos);
+            reportManager.recordApiCall(method.getValue(), endpoint, ReportingInterface.STATUS_NO_RESPONSE,
+                                        failedNanos / 1_000_000);
+            callEvent.complete(method.getValue(), endpoint, body, null);
+            throw e;
+        } finally {
+            FrameworkMetrics.API_IN_FLIGHT.dec();
         }
+        FrameworkMetrics.recordApiCall(method.getValue(), endpoint, response.getStatusCode(), System.nanoTime() - callStart);
+        callEvent.complete(method.getValue(), endpoint, body, response);
+        SessionCookieJar.getInstance().capture(SessionPool.getInstance().currentSessionKey(), response);
         
+        reportManager.recordApiCall(method.getValue(), endpoint, response.getStatusCode(), response.getTime());
         testLogger.logInfo(MSG_RESPONSE_STATUS_CODE + response.getStatusCode());
         testLogger.logInfo(MSG_RESPONSE_TIME + response.getTime() + MSG_MILLISECONDS);
         testLogger.logInfo(MSG_RESPONSE_HEADERS + response.getHeaders().toString());
@@ -364,12 +410,12 @@ public abstract class BaseApiTest implements ApiTestInterface {
             } catch (AssertionError e) {
                 // Log full API response only when status code validation fails
                 testLogger.logApiResponse(response.getStatusCode(), response.asString(), response.getTime());
-                reportManager.logApiResponse(response, response.asString());
+                capturePolicy.captureResponse(reportManager, response, response.asString());
                 throw e; // Re-throw the assertion error
             } catch (Exception e) {
                 // Log full API response for other validation exceptions
                 testLogger.logApiResponse(response.getStatusCode(), response.asString(), response.getTime());
-                reportManager.logApiResponse(response, response.asString());
+                capturePolicy.captureResponse(reportManager, response, response.asString());
                 throw e; // Re-throw the validation exception
             }
         }
@@ -385,8 +431,12 @@ public abstract class BaseApiTest implements ApiTestInterface {
      */
     protected final void validateWithLogging(String validationName, ValidationExecutor validator) {
         testLogger.logInfo(MSG_VALIDATING_PREFIX + validationName + MSG_VALIDATING_SUFFIX);
+        ValidationEvent validationEvent = new ValidationEvent();
+        validationEvent.begin();
+        boolean passed = false;
         try {
             validator.validate();
+            passed = true;
             testLogger.logInfo(MSG_ASSERTION_PASSED + validationName);
             reportManager.logStep(validationName + MSG_VALIDATION_SUFFIX, "PASSED");
         } catch (AssertionError e) {
@@ -401,6 +451,8 @@ public abstract class BaseApiTest implements ApiTestInterface {
             // Checked exceptions - convert to AssertionError
             logValidationFailure(validationName, e, false);
             throw new AssertionError(ERROR_VALIDATION_FAILED_UNEXPECTED + e.getMessage(), e);
+        } finally {
+            validationEvent.complete(validationName, passed);
         }
     }
     
@@ -418,6 +470,7 @@ public abstract class BaseApiTest implements ApiTestInterface {
     private void baseTearDown(String suiteName, int totalTests, int passedTests, int failedTests, int skippedTests) {
         testLogger.logTestSuiteEnd(suiteName, totalTests, passedTests, failedTests, skippedTests);
         reportManager.finalizeReport();
+        MetricsExporter.writeSnapshot();
         testLogger.logInfo(MSG_TEST_EXECUTION_COMPLETED + reportManager.getReportPath());
     }
     
@@ -425,7 +478,7 @@ public abstract class BaseApiTest implements ApiTestInterface {
      * Common teardown for test suites using instance variables
      */
     protected void baseTearDown(String suiteName) {
-        baseTearDown(suiteName, this.totalTests, this.passedTests, this.failedTests, this.skippedTests);
+        baseTearDown(suiteName, this.totalTests.get(), this.passedTests.get(), this.failedTests.get(), this.skippedTests.get());
     }
     
     // ==================== AUTHENTICATION MANAGEMENT METHODS ====================
@@ -436,7 +489,7 @@ public abstract class BaseApiTest implements ApiTestInterface {
      */
     protected final void forceReauthentication() {
         try {
-            sessionAuthManager.forceReauthentication("default_session");
+            sessionAuthManager.forceReauthentication(SessionPool.getInstance().currentSessionKey());
             testLogger.logInfo("Successfully re-authenticated. New token available.");
         } catch (Exception e) {
             testLogger.logError("Failed to re-authenticate", e);
@@ -448,14 +501,14 @@ public abstract class BaseApiTest implements ApiTestInterface {
      * Check if current session has valid authentication
      */
     protected final boolean hasValidAuthentication() {
-        return sessionAuthManager.hasValidSession("default_session");
+        return sessionAuthManager.hasValidSession(SessionPool.getInstance().currentSessionKey());
     }
     
     /**
      * Get current session authentication data
      */
     protected final SessionAuthenticationManager.SessionAuthData getSessionAuthData() {
-        return sessionAuthManager.getSessionData("default_session");
+        return sessionAuthManager.getSessionData(SessionPool.getInstance().currentSessionKey());
     }
     
     /**
@@ -0,0 +1,227 @@
+package com.automation.framework.core.base;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.DataProviderInterface;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.automation.framework.shared.data.IndexedTestDataStore;
+import com.automation.framework.shared.data.RecordCursor;
+import com.automation.framework.shared.data.StreamingTestDataProvider;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Exposes any DataProviderInterface dataset as a TestNG data provider - one invocation (and report entry) per row
+ * Rows are {String key, record} and are pulled from the source lazily in chunks (data.provider.chunk.size):
+ * streamed and indexed files are read chunk by chunk, other providers are walked over their loaded data.
+ * <pre>
+ * &#64;DataProvider(name = "payments", parallel = true)
+ * public Iterator&lt;Object[]&gt; payments() {
+ *     return ParallelDataProviderBridge.rows(testDataProvider);
+ * }
+ *
+ * &#64;Test(dataProvider = "payments")
+ * public void createPayment(String key, Object record) {
+ *     executeTest("Create payment [" + key + "]", "...", () -> { ... });
+ * }
+ * </pre>
+ * Registered as a suite listener it also sizes TestNG's data provider thread pool from data.provider.thread.count,
+ * which runs the rows of every parallel data provider.
+ * Note: TestNG 7 collects all rows of a parallel provider before dispatching them, so chunking bounds read cost
+ * and per-call batch size, not the number of rows TestNG holds.
+ */
+public class ParallelDataProviderBridge implements IAlterSuiteListener {
+    private static final LoggingInterface logger = new ApiLogger(ParallelDataProviderBridge.class);
+
+    // Configuration keys for data-driven execution
+    private static final String PROP_CHUNK_SIZE = "data.provider.chunk.size";
+    private static final String PROP_THREAD_COUNT = "data.provider.thread.count";
+
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+    private static final String ROW_KEY_PREFIX = "row-";
+
+    /**
+     * Size TestNG's data provider pool before the suites run
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ApiConfig apiConfig = new ApiConfig();
+        int threads = Integer.parseInt(System.getProperty(PROP_THREAD_COUNT,
+                apiConfig.getProperty(PROP_THREAD_COUNT, "0")).trim());
+        if (threads <= 0) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(threads);
+        }
+        logger.logInfo("Data provider thread pool size set to " + threads);
+    }
+
+    /**
+     * All rows of a loaded provider as {key, record}, chunk size from data.provider.chunk.size
+     */
+    public static Iterator<Object[]> rows(DataProviderInterface provider) {
+        return rows(provider, configuredChunkSize());
+    }
+
+    /**
+     * All rows of a loaded provider as {key, record}, read chunkSize records at a time
+     */
+    public static Iterator<Object[]> rows(DataProviderInterface provider, int chunkSize) {
+        if (provider instanceof StreamingTestDataProvider) {
+            return rows((StreamingTestDataProvider) provider, Map.class, chunkSize);
+        }
+        if (provider instanceof IndexedTestDataStore) {
+            return rows((IndexedTestDataStore) provider, Map.class, chunkSize);
+        }
+        List<Map.Entry<String, Object>> entries = new ArrayList<>(provider.getAllTestData().entrySet());
+        return new ChunkedRowIterator(chunkSize, new ChunkSource() {
+            private int position;
+
+            @Override
+            public List<Object[]> nextChunk(int maxRows) {
+                int end = Math.min(position + maxRows, entries.size());
+                List<Object[]> chunk = new ArrayList<>(end - position);
+                for (; position < end; position++) {
+                    Map.Entry<String, Object> entry = entries.get(position);
+                    chunk.add(new Object[]{entry.getKey(), entry.getValue()});
+                }
+                return chunk;
+            }
+        });
+    }
+
+    /**
+     * Streamed records bound to a model class - the file is read lazily and closed once exhausted
+     * Keys come from the provider's key field for Map records, otherwise "row-N".
+     */
+    public static <T> Iterator<Object[]> rows(StreamingTestDataProvider provider, Class<T> type, int chunkSize) {
+        String keyField = provider.getKeyField();
+        return new ChunkedRowIterator(chunkSize, new ChunkSource() {
+            private RecordCursor<T> cursor;
+            private long position;
+
+            @Override
+            public List<Object[]> nextChunk(int maxRows) {
+                if (cursor == null) {
+                    cursor = provider.openCursor(type);
+                }
+                List<T> records = cursor.nextBatch(maxRows);
+                List<Object[]> chunk = new ArrayList<>(records.size());
+                for (T record : records) {
+                    chunk.add(new Object[]{rowKey(record, keyField, ++position), record});
+                }
+                return chunk;
+            }
+
+            @Override
+            public void close() {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * Indexed records bound to a model class, read from the mapping chunk by chunk in index order
+     * Index order follows the key hash, so rows are not in file order (but the same for every run of a file).
+     */
+    public static <T> Iterator<Object[]> rows(IndexedTestDataStore store, Class<T> type, int chunkSize) {
+        String keyField = store.getKeyField();
+        return new ChunkedRowIterator(chunkSize, new ChunkSource() {
+            private int position;
+
+            @Override
+            public List<Object[]> nextChunk(int maxRows) {
+                List<T> records = store.getRecords(position, maxRows, type);
+                List<Object[]> chunk = new ArrayList<>(records.size());
+                for (T record : records) {
+                    chunk.add(new Object[]{rowKey(record, keyField, ++position), record});
+                }
+                return chunk;
+            }
+        });
+    }
+
+    private static String rowKey(Object record, String keyField, long rowNumber) {
+        if (record instanceof Map) {
+            Object key = ((Map<?, ?>) record).get(keyField);
+            if (key != null) {
+                return key.toString();
+            }
+        }
+        return ROW_KEY_PREFIX + rowNumber;
+    }
+
+    private static int configuredChunkSize() {
+        ApiConfig apiConfig = new ApiConfig();
+        return Math.max(1, Integer.parseInt(System.getProperty(PROP_CHUNK_SIZE,
+                apiConfig.getProperty(PROP_CHUNK_SIZE, String.valueOf(DEFAULT_CHUNK_SIZE))).trim()));
+    }
+
+    /**
+     * Source of row chunks - an empty chunk means the source is exhausted
+     */
+    private interface ChunkSource {
+        List<Object[]> nextChunk(int maxRows);
+
+        default void close() {
+        }
+    }
+
+    /**
+     * Iterates rows one chunk at a time; synchronized so TestNG may pull from any thread
+     */
+    private static final class ChunkedRowIterator implements Iterator<Object[]> {
+        private final int chunkSize;
+        private final ChunkSource source;
+        private List<Object[]> chunk = Collections.emptyList();
+        private int position;
+        private boolean exhausted;
+
+        private ChunkedRowIterator(int chunkSize, ChunkSource source) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Data provider chunk size must be positive: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            this.source = source;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            while (position == chunk.size() && !exhausted) {
+                try {
+                    chunk = source.nextChunk(chunkSize);
+                } catch (RuntimeException e) {
+                    exhausted = true;
+                    source.close();
+                    throw e;
+                }
+                position = 0;
+                if (chunk.isEmpty()) {
+                    exhausted = true;
+                    source.close();
+                }
+            }
+            return position < chunk.size();
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = chunk.get(position);
+            chunk.set(position++, null); // release the row once handed out
+            return row;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.automation.framework.core.factory;
 
 import com.automation.framework.core.interfaces.DataProviderInterface;
+import com.automation.framework.shared.data.IndexedTestDataStore;
+import com.automation.framework.shared.data.StreamingTestDataProvider;
 import com.automation.framework.shared.data.TestDataProvider;
 
 public class DataProviderFactory {
@@ -14,6 +16,12 @@ public class DataProviderFactory {
             case "json":
             case "default":
                 return new TestDataProvider();
+            case "jsonl":
+                return new StreamingTestDataProvider(StreamingTestDataProvider.Format.JSONL);
+            case "csv":
+                return new StreamingTestDataProvider(StreamingTestDataProvider.Format.CSV);
+            case "indexed":
+                return new IndexedTestDataStore();
             default:
                 throw new IllegalArgumentException("Unknown data provider type: " + providerType);
         }
@@ -0,0 +1,36 @@
+package com.automation.framework.core.factory;
+
+import com.automation.framework.core.auth.FileOtpSource;
+import com.automation.framework.core.auth.MockOtpSource;
+import com.automation.framework.core.auth.RedisOtpSource;
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.OtpSourceInterface;
+
+import java.nio.file.Paths;
+
+/**
+ * Factory class for creating OTP source instances
+ * Usage: auth.otp.source=redis|mock|file (defaults to mock when auth.otp.mock=true, else redis)
+ */
+public class OtpSourceFactory {
+    
+    public static OtpSourceInterface createOtpSource(ApiConfig apiConfig) {
+        String defaultSource = apiConfig.getBooleanProperty("auth.otp.mock", false) ? "mock" : "redis";
+        String sourceType = System.getProperty("auth.otp.source", apiConfig.getProperty("auth.otp.source", defaultSource));
+        return createOtpSource(sourceType, apiConfig);
+    }
+    
+    public static OtpSourceInterface createOtpSource(String sourceType, ApiConfig apiConfig) {
+        switch (sourceType.trim().toLowerCase()) {
+            case "redis":
+                return new RedisOtpSource();
+            case "mock":
+                return new MockOtpSource(apiConfig.getProperty("auth.otp.mock.value", "123456"));
+            case "file":
+                return new FileOtpSource(Paths.get(apiConfig.getProperty("auth.otp.file", "otp.properties")));
+            default:
+                throw new IllegalArgumentException("Unknown OTP source: " + sourceType +
+                                                   ". Available sources: redis, mock, file");
+        }
+    }
+}
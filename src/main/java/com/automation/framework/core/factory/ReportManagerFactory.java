@@ -3,11 +3,13 @@ package com.automation.framework.core.factory;
 import com.automation.framework.core.interfaces.ReportingInterface;
 import com.automation.framework.core.reporting.ExtentReportManager;
 import com.automation.framework.core.reporting.AllureReportingManager;
+import com.automation.framework.core.reporting.NoOpReportManager;
+import com.automation.framework.core.reporting.SummaryReportManager;
 
 public class ReportManagerFactory {
     
     public enum ReportType {
-        EXTENT, ALLURE
+        EXTENT, ALLURE, NONE, SUMMARY
     }
     
     public static ReportingInterface createReportManager() {
@@ -20,6 +22,10 @@ public class ReportManagerFactory {
                 return new ExtentReportManager();
             case ALLURE:
                 return new AllureReportingManager();
+            case NONE:
+                return new NoOpReportManager();
+            case SUMMARY:
+                return new SummaryReportManager();
             default:
                 throw new IllegalArgumentException("Unknown report type: " + reportType);
         }
@@ -31,8 +37,31 @@ public class ReportManagerFactory {
                 return new ExtentReportManager();
             case "allure":
                 return new AllureReportingManager();
+            case "none":
+                return new NoOpReportManager();
+            case "summary":
+                return new SummaryReportManager();
             default:
                 throw new IllegalArgumentException("Unknown report type: " + reportType);
         }
     }
+    
+    /**
+     * Create reporter based on system properties
+     * Usage: -Dreport.mode=none|summary|full (full honours -Dreport.type=extent|allure)
+     */
+    public static ReportingInterface createReportManagerFromSystemProperty() {
+        String reportMode = System.getProperty("report.mode", "full");
+        switch (reportMode.toLowerCase()) {
+            case "none":
+                return new NoOpReportManager();
+            case "summary":
+                return new SummaryReportManager();
+            case "full":
+                return createReportManager(System.getProperty("report.type", "extent"));
+            default:
+                throw new IllegalArgumentException("Unknown report mode: " + reportMode +
+                                                   ". Available modes: none, summary, full");
+        }
+    }
 }
\ No newline at end of file
@@ -6,16 +6,19 @@ public interface DataProviderInterface {
 
     /**
      * Get test data by key
+     * Returned data may be a shared read-only view (cached JSON files) - copy it before modifying.
      */
     Object getTestData(String key);
 
     /**
-     * Get all test data as map
+     * Get all test data as map (may be shared and read-only, see getTestData)
      */
     Map<String, Object> getAllTestData();
 
     /**
      * Get test data for specific test case
+     * The map may be shared between tests and unmodifiable - mutating it throws
+     * UnsupportedOperationException, so copy it (e.g. new HashMap&lt;&gt;(data)) before changing values.
      */
     Map<String, Object> getTestDataForCase(String testCaseName);
 
@@ -0,0 +1,27 @@
+package com.automation.framework.core.interfaces;
+
+/**
+ * Source of one-time passwords for the OTP login flow (Redis, mock value, file, ...)
+ */
+public interface OtpSourceInterface {
+
+    /**
+     * Get the current OTP for a login ID, null when none is available
+     */
+    String getOtp(String loginId);
+
+    /**
+     * Whether the raw record can be polled to detect a newly sent OTP
+     */
+    boolean supportsPolling();
+
+    /**
+     * Get the raw OTP record for a login ID, null when absent
+     */
+    String getOtpRecord(String loginId);
+
+    /**
+     * Extract the OTP from a raw record, null when the record is missing or malformed
+     */
+    String extractOtp(String record);
+}
@@ -29,6 +29,19 @@ public interface ReportingInterface {
      */
     void logApiResponse(Response response, String responseBody);
 
+    /**
+     * Status passed to recordApiCall when no response arrived (connection failure, timeout)
+     */
+    int STATUS_NO_RESPONSE = 0;
+
+    /**
+     * Record timing and status of every API call (independent of body capture)
+     * Calls without a response are recorded with STATUS_NO_RESPONSE.
+     */
+    default void recordApiCall(String method, String endpoint, int statusCode, long responseTimeMs) {
+        // Default no-op - only aggregating reporters need per-call metrics
+    }
+
     /**
      * Mark test as passed
      */
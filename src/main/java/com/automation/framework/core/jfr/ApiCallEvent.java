@@ -0,0 +1,57 @@
+package com.automation.framework.core.jfr;
+
+import com.automation.framework.shared.utils.EndpointTemplate;
+import io.restassured.response.Response;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JFR event for every API call made through BaseApiTest.makeApiCall
+ * Record with: -XX:StartFlightRecording=filename=run.jfr
+ */
+@Name("com.automation.framework.ApiCall")
+@Label("API Call")
+@Category({"API Automation", "HTTP"})
+@Description("HTTP call issued by the test framework")
+public class ApiCallEvent extends Event {
+
+    @Label("Endpoint Template")
+    public String endpoint;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Status Code")
+    @Description("HTTP status, 0 when no response was received")
+    public int statusCode;
+
+    @Label("Request Bytes")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    public long responseBytes;
+
+    /**
+     * End the event and commit it if the recording wants it - sizes and template are only computed when committed
+     * @param response - response received, or null when the call failed in transport
+     */
+    public void complete(String method, String endpoint, String requestBody, Response response) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.endpoint = EndpointTemplate.of(endpoint);
+            this.statusCode = response != null ? response.getStatusCode() : 0;
+            this.requestBytes = requestBody != null ? requestBody.getBytes(StandardCharsets.UTF_8).length : 0;
+            this.responseBytes = response != null ? response.asByteArray().length : 0;
+            commit();
+        }
+    }
+}
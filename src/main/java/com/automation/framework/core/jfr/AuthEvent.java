@@ -0,0 +1,43 @@
+package com.automation.framework.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for each stage of the OTP login flow
+ */
+@Name("com.automation.framework.Auth")
+@Label("Authentication Stage")
+@Category({"API Automation", "Auth"})
+@Description("OTP send, Redis OTP fetch or login call")
+public class AuthEvent extends Event {
+
+    public static final String STAGE_OTP_SEND = "OTP_SEND";
+    public static final String STAGE_REDIS_FETCH = "REDIS_FETCH";
+    public static final String STAGE_LOGIN = "LOGIN";
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Client Id")
+    public String clientId;
+
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * End the event and commit it if the recording wants it
+     */
+    public void complete(String stage, String clientId, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.stage = stage;
+            this.clientId = clientId;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.automation.framework.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for Redis operations issued through RedisManager
+ */
+@Name("com.automation.framework.RedisOperation")
+@Label("Redis Operation")
+@Category({"API Automation", "Redis"})
+@Description("Redis command including connection borrow and database select")
+public class RedisOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * End the event and commit it if the recording wants it
+     */
+    public void complete(String operation, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.success = success;
+            commit();
+        }
+    }
+}
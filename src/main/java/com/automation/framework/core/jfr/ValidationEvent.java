@@ -0,0 +1,35 @@
+package com.automation.framework.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for validations run through BaseApiTest.validateWithLogging
+ */
+@Name("com.automation.framework.Validation")
+@Label("Validation")
+@Category({"API Automation", "Validation"})
+@Description("Response validation block")
+public class ValidationEvent extends Event {
+
+    @Label("Validator Name")
+    public String validatorName;
+
+    @Label("Passed")
+    public boolean passed;
+
+    /**
+     * End the event and commit it if the recording wants it
+     */
+    public void complete(String validatorName, boolean passed) {
+        end();
+        if (shouldCommit()) {
+            this.validatorName = validatorName;
+            this.passed = passed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.automation.framework.core.load;
+
+import com.automation.framework.core.auth.AuthenticationManager;
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.local.LocalEnvironment;
+import com.automation.framework.core.logging.ApiLogger;
+import com.automation.framework.core.metrics.FrameworkMetrics;
+import com.automation.framework.core.metrics.MetricsExporter;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AuthLoadScenario drives the login flow itself as the load target
+ * Each virtual user runs send-otp, OTP retrieval and verify-otp once for its own loginId; every stage is
+ * timed separately (auth_stage_duration_seconds) and a failed stage ends that user's flow without the
+ * mock-OTP fallbacks of authenticate(). OTP rate-limit keys of all loginIds are cleared in setup().
+ */
+public class AuthLoadScenario {
+    private static final LoggingInterface logger = new ApiLogger(AuthLoadScenario.class);
+
+    // Configuration keys for the auth load scenario
+    private static final String PROP_LOGIN_COUNT = "load.auth.login.count";
+    private static final String PROP_LOGIN_PATTERN = "load.auth.login.pattern";
+    private static final String PROP_CONCURRENCY = "load.auth.concurrency";
+    private static final String PROP_CLIENT_ID = "load.auth.client.id";
+
+    private static final long NOT_RUN = -1;
+
+    /**
+     * Timed stages of one login
+     */
+    public enum Stage {
+        OTP_SEND("otp_send"), OTP_FETCH("otp_fetch"), LOGIN("login");
+
+        private final String metricLabel;
+
+        Stage(String metricLabel) {
+            this.metricLabel = metricLabel;
+        }
+
+        public String getMetricLabel() {
+            return metricLabel;
+        }
+    }
+
+    private final AuthenticationManager authManager;
+    private final String clientId;
+    private final List<String> loginIds;
+    private final int concurrency;
+
+    public AuthLoadScenario(AuthenticationManager authManager, String clientId, List<String> loginIds, int concurrency) {
+        this.authManager = authManager;
+        this.clientId = clientId;
+        this.loginIds = Collections.unmodifiableList(new ArrayList<>(loginIds));
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Build a scenario from load.auth.* properties
+     * loginIds are load.auth.login.pattern with {n} replaced by 1..load.auth.login.count.
+     */
+    public static AuthLoadScenario fromConfig(ApiConfig apiConfig) {
+        int loginCount = apiConfig.getIntProperty(PROP_LOGIN_COUNT, 100);
+        String pattern = apiConfig.getProperty(PROP_LOGIN_PATTERN, "loadtest{n}@ixigo.com");
+        if (!pattern.contains("{n}")) {
+            throw new IllegalArgumentException(PROP_LOGIN_PATTERN + " must contain {n} to produce distinct login ids: " + pattern);
+        }
+        List<String> loginIds = new ArrayList<>(loginCount);
+        for (int n = 1; n <= loginCount; n++) {
+            loginIds.add(pattern.replace("{n}", String.valueOf(n)));
+        }
+        String clientId = apiConfig.getProperty(PROP_CLIENT_ID, apiConfig.getProperty("auth.user.clientid", "iximweb"));
+        AuthenticationManager authManager = new AuthenticationManager(
+                apiConfig.getProperty("auth.base.url", apiConfig.getBaseUrl()));
+        return new AuthLoadScenario(authManager, clientId, loginIds, apiConfig.getIntProperty(PROP_CONCURRENCY, 16));
+    }
+
+    /**
+     * Clear OTP rate-limit keys of all loginIds so the run is not throttled by earlier runs
+     */
+    public void setup() {
+        authManager.cleanupOtpLimits(loginIds);
+        logger.logInfo("Auth load scenario ready: " + loginIds.size() + " login ids, concurrency " + concurrency);
+    }
+
+    /**
+     * Run one login per loginId on a fixed pool of virtual users and summarize the stage latencies
+     */
+    public Result run() {
+        Map<Stage, long[]> latencies = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            long[] stageLatencies = new long[loginIds.size()];
+            Arrays.fill(stageLatencies, NOT_RUN);
+            latencies.put(stage, stageLatencies);
+        }
+        Map<Stage, AtomicInteger> failures = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            failures.put(stage, new AtomicInteger());
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "auth-load-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < loginIds.size(); i++) {
+                int index = i;
+                virtualUsers.execute(() -> runLogin(index, latencies, failures));
+            }
+            virtualUsers.shutdown();
+            if (!virtualUsers.awaitTermination(1, TimeUnit.HOURS)) {
+                throw new RuntimeException("Auth load scenario did not finish within one hour");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Auth load scenario interrupted", e);
+        } finally {
+            virtualUsers.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<Stage, StageSummary> summaries = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            summaries.put(stage, StageSummary.of(latencies.get(stage), failures.get(stage).get()));
+        }
+        Result result = new Result(loginIds.size(), summaries, elapsedNanos);
+        logger.logInfo("Auth load scenario finished: " + result);
+        return result;
+    }
+
+    /**
+     * One virtual user's login - each stage only runs if the previous one succeeded
+     */
+    private void runLogin(int index, Map<Stage, long[]> latencies, Map<Stage, AtomicInteger> failures) {
+        String loginId = loginIds.get(index);
+        String deviceId = AuthenticationManager.generateDeviceId();
+        Stage stage = Stage.OTP_SEND;
+        long stageStart = System.nanoTime();
+        try {
+            String previousRecord = authManager.currentOtpRecord(loginId);
+
+            stageStart = System.nanoTime();
+            Response otpResponse = authManager.sendOtp(loginId, clientId, deviceId);
+            if (!recordStage(stage, index, stageStart, otpResponse.getStatusCode() == 200, latencies, failures)) {
+                return;
+            }
+
+            stage = Stage.OTP_FETCH;
+            stageStart = System.nanoTime();
+            String otp = authManager.awaitOtp(loginId, previousRecord);
+            if (!recordStage(stage, index, stageStart, otp != null, latencies, failures)) {
+                return;
+            }
+
+            stage = Stage.LOGIN;
+            stageStart = System.nanoTime();
+            Response loginResponse = authManager.login(loginId, otp, clientId, deviceId);
+            boolean loggedIn = loginResponse.getStatusCode() == 200
+                               && loginResponse.jsonPath().getString("data.access_token") != null;
+            recordStage(stage, index, stageStart, loggedIn, latencies, failures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordStage(stage, index, stageStart, false, latencies, failures);
+            logger.logWarning("Auth load " + stage.getMetricLabel() + " interrupted for " + loginId);
+        } catch (Exception e) {
+            recordStage(stage, index, stageStart, false, latencies, failures);
+            logger.logWarning("Auth load " + stage.getMetricLabel() + " failed for " + loginId + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean recordStage(Stage stage, int index, long stageStart, boolean success,
+                                       Map<Stage, long[]> latencies, Map<Stage, AtomicInteger> failures) {
+        long durationNanos = System.nanoTime() - stageStart;
+        FrameworkMetrics.recordAuthStage(stage.getMetricLabel(), success, durationNanos);
+        latencies.get(stage)[index] = durationNanos;
+        if (!success) {
+            failures.get(stage).incrementAndGet();
+        }
+        return success;
+    }
+
+    /**
+     * Latency summary of one stage (all attempts, successful or not)
+     */
+    public static final class StageSummary {
+        private final int attempts;
+        private final int failures;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+
+        private StageSummary(int attempts, int failures, double p50Millis, double p95Millis, double p99Millis,
+                             double maxMillis) {
+            this.attempts = attempts;
+            this.failures = failures;
+            this.p50Millis = p50Millis;
+            this.p95Millis = p95Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+
+        private static StageSummary of(long[] latencies, int failures) {
+            long[] recorded = Arrays.stream(latencies).filter(latency -> latency != NOT_RUN).sorted().toArray();
+            if (recorded.length == 0) {
+                return new StageSummary(0, failures, 0, 0, 0, 0);
+            }
+            return new StageSummary(recorded.length, failures, percentile(recorded, 0.50), percentile(recorded, 0.95),
+                    percentile(recorded, 0.99), recorded[recorded.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double fraction) {
+            int index = (int) Math.ceil(fraction * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public double getP95Millis() {
+            return p95Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("attempts=%d failures=%d p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                    attempts, failures, p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+    }
+
+    /**
+     * Outcome of a scenario run
+     */
+    public static final class Result {
+        private final int logins;
+        private final Map<Stage, StageSummary> stages;
+        private final long elapsedNanos;
+
+        private Result(int logins, Map<Stage, StageSummary> stages, long elapsedNanos) {
+            this.logins = logins;
+            this.stages = Collections.unmodifiableMap(stages);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public StageSummary getStage(Stage stage) {
+            return stages.get(stage);
+        }
+
+        /**
+         * Logins that completed all stages
+         */
+        public int getSuccessfulLogins() {
+            StageSummary login = stages.get(Stage.LOGIN);
+            return login.getAttempts() - login.getFailures();
+        }
+
+        public double getLoginsPerSecond() {
+            return getSuccessfulLogins() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder summary = new StringBuilder();
+            summary.append(getSuccessfulLogins()).append('/').append(logins).append(" logins in ")
+                    .append(elapsedNanos / 1_000_000).append(" ms (")
+                    .append(String.format("%.1f", getLoginsPerSecond())).append("/s)");
+            for (Map.Entry<Stage, StageSummary> stage : stages.entrySet()) {
+                summary.append(System.lineSeparator()).append("  ").append(stage.getKey().getMetricLabel())
+                        .append(": ").append(stage.getValue());
+            }
+            return summary.toString();
+        }
+    }
+
+    /**
+     * Run the scenario from the command line, e.g. -Denv=local for the offline stack
+     */
+    public static void main(String[] args) {
+        ApiConfig apiConfig = new ApiConfig();
+        LocalEnvironment.startIfConfigured(apiConfig);
+        MetricsExporter.startIfConfigured(apiConfig);
+
+        AuthLoadScenario scenario = fromConfig(apiConfig);
+        scenario.setup();
+        scenario.run();
+
+        MetricsExporter.writeSnapshot();
+        LocalEnvironment.stop();
+    }
+}
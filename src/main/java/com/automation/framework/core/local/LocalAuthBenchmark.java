@@ -0,0 +1,68 @@
+package com.automation.framework.core.local;
+
+import com.automation.framework.core.auth.AuthResponse;
+import com.automation.framework.core.auth.AuthenticationManager;
+import com.automation.framework.core.config.ApiConfig;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures the per-login cost of AuthenticationManager against the local stack
+ * Run with: java -cp ... com.automation.framework.core.local.LocalAuthBenchmark [logins] [warmupLogins]
+ * Each login is send-otp, OTP fetch from Redis and verify-otp for a distinct loginId; the stub adds
+ * no latency by default, so the timings are dominated by the framework's own request building.
+ */
+public class LocalAuthBenchmark {
+
+    public static void main(String[] args) {
+        int logins = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int warmupLogins = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        System.setProperty("env", System.getProperty("env", "local"));
+        ApiConfig apiConfig = new ApiConfig();
+        LocalEnvironment.startIfConfigured(apiConfig);
+
+        String clientId = apiConfig.getProperty("auth.user.clientid", "iximweb");
+        AuthenticationManager authManager = new AuthenticationManager(
+                apiConfig.getProperty("auth.base.url", apiConfig.getBaseUrl()));
+
+        runLogins(authManager, clientId, "warmup", warmupLogins);
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long[] latencies = runLogins(authManager, clientId, "bench", logins);
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(latencies);
+        long total = Arrays.stream(latencies).sum();
+        System.out.printf("logins=%d avg=%.2fms p50=%.2fms p99=%.2fms max=%.2fms throughput=%.0f/s alloc/login=%dKB%n",
+                logins,
+                total / (double) logins / 1_000_000,
+                latencies[logins / 2] / 1_000_000.0,
+                latencies[Math.min(logins - 1, (int) (logins * 0.99))] / 1_000_000.0,
+                latencies[logins - 1] / 1_000_000.0,
+                logins / (total / 1_000_000_000.0),
+                allocatedBytes / logins / 1024);
+
+        LocalEnvironment.stop();
+    }
+
+    /**
+     * Authenticate distinct users sequentially, alternating email and phone logins
+     */
+    private static long[] runLogins(AuthenticationManager authManager, String clientId, String prefix, int count) {
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            String loginId = i % 2 == 0 ? prefix + i + "@ixigo.com" : String.valueOf(9_000_000_000L + i);
+            long start = System.nanoTime();
+            AuthResponse response = authManager.authenticate(loginId, clientId, AuthenticationManager.generateDeviceId());
+            latencies[i] = System.nanoTime() - start;
+            if (!response.isSuccess()) {
+                throw new RuntimeException("Benchmark login failed for " + loginId + ": " + response.getMessage());
+            }
+        }
+        return latencies;
+    }
+}
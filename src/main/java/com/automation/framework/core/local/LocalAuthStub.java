@@ -0,0 +1,182 @@
+package com.automation.framework.core.local;
+
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LocalAuthStub serves the OTP send and verify endpoints for the local environment
+ * send-otp writes a fresh OTP record into the local Redis server in the same key/record layout
+ * the backend uses, so AuthenticationManager runs its real flow (HTTP + Redis) fully offline.
+ */
+public class LocalAuthStub implements Closeable {
+    private static final LoggingInterface logger = new ApiLogger(LocalAuthStub.class);
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final HttpServer server;
+    private final LocalRedisServer redisServer;
+    private final int database;
+    private final String otpKeyPrefix;
+    private final int extractStart;
+    private final int extractEnd;
+    private final long latencyMs;
+
+    public LocalAuthStub(int port, LocalRedisServer redisServer, int database, String otpKeyPrefix,
+                         int extractStart, int extractEnd, long latencyMs) throws IOException {
+        this.redisServer = redisServer;
+        this.database = database;
+        this.otpKeyPrefix = otpKeyPrefix;
+        this.extractStart = extractStart;
+        this.extractEnd = extractEnd;
+        this.latencyMs = latencyMs;
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/api/v4/oauth/login/email/send-otp", this::handleSendOtp);
+        server.createContext("/api/v4/oauth/dual/mobile/send-otp", this::handleSendOtp);
+        server.createContext("/api/v4/oauth/dual/mobile/verify-otp", this::handleVerifyOtp);
+        AtomicInteger threadCounter = new AtomicInteger();
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-auth-stub-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+        // The dispatcher thread inherits daemon status from the starting thread - keep it from blocking JVM exit
+        Thread starter = new Thread(server::start, "local-auth-stub-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.logInfo("Local auth stub listening on http://127.0.0.1:" + getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handleSendOtp(HttpExchange exchange) throws IOException {
+        Map<String, String> form = readForm(exchange);
+        String loginId = form.containsKey("email") ? form.get("email") : form.get("phone");
+        if (loginId == null || loginId.isEmpty()) {
+            respond(exchange, 400, "{\"errors\":{\"message\":\"email or phone is required\"}}", null);
+            return;
+        }
+        simulateLatency();
+
+        String otp = String.format("%06d", ThreadLocalRandom.current().nextInt(1_000_000));
+        redisServer.set(database, otpKeyPrefix + loginId, buildOtpRecord(otp));
+        logger.logDebug("Local stub issued OTP for loginId: " + loginId);
+        respond(exchange, 200, "{\"data\":{\"message\":\"OTP sent successfully\"}}", null);
+    }
+
+    private void handleVerifyOtp(HttpExchange exchange) throws IOException {
+        Map<String, String> form = readForm(exchange);
+        String token = form.get("token");
+        simulateLatency();
+
+        // token is base64(loginId~otp) for email or base64(loginId~prefix~otp) for phone
+        String[] parts;
+        try {
+            parts = token != null
+                    ? new String(Base64.getDecoder().decode(token), StandardCharsets.UTF_8).split("~")
+                    : new String[0];
+        } catch (IllegalArgumentException e) {
+            parts = new String[0]; // not valid base64
+        }
+        if (parts.length < 2) {
+            respond(exchange, 400, "{\"errors\":{\"message\":\"Malformed token\"}}", null);
+            return;
+        }
+        String loginId = parts[0];
+        String otp = parts[parts.length - 1].trim();
+        String record = redisServer.get(database, otpKeyPrefix + loginId);
+        String expected = record != null && record.length() >= extractEnd
+                ? record.substring(extractStart, extractEnd).trim() : null;
+
+        if (expected == null || !expected.equals(otp)) {
+            respond(exchange, 401, "{\"errors\":{\"message\":\"Invalid OTP\"}}", null);
+            return;
+        }
+        String accessToken = "local-" + UUID.randomUUID().toString().replace("-", "");
+        respond(exchange, 200, "{\"data\":{\"access_token\":\"" + accessToken + "\",\"token_type\":\"bearer\"}}",
+                "sapphire=" + UUID.randomUUID() + "; Path=/");
+    }
+
+    /**
+     * Pad the OTP into the record so the configured extract offsets return it (trimmed by login)
+     */
+    private String buildOtpRecord(String otp) {
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < extractStart; i++) {
+            record.append('0');
+        }
+        record.append(otp);
+        while (record.length() < extractEnd) {
+            record.append(' ');
+        }
+        return record.toString();
+    }
+
+    private void simulateLatency() {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Map<String, String> readForm(HttpExchange exchange) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8.name()),
+                         URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8.name()));
+            }
+        }
+        return form;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json, String cookie) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        if (cookie != null) {
+            exchange.getResponseHeaders().add("Set-Cookie", cookie);
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.automation.framework.core.local;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+
+import java.io.IOException;
+
+/**
+ * Starts the in-process Redis server and auth stub for offline runs (-Denv=local)
+ * Enabled by local.stack.enabled=true; the ports must match redis.port and the auth base URL.
+ */
+public class LocalEnvironment {
+    private static final LoggingInterface logger = new ApiLogger(LocalEnvironment.class);
+
+    // Configuration keys for the local stack
+    private static final String PROP_STACK_ENABLED = "local.stack.enabled";
+    private static final String PROP_AUTH_STUB_PORT = "local.auth.stub.port";
+    private static final String PROP_AUTH_STUB_LATENCY_MS = "local.auth.stub.latency.ms";
+
+    private static final Object lock = new Object();
+    private static LocalRedisServer redisServer;
+    private static LocalAuthStub authStub;
+
+    private LocalEnvironment() {
+    }
+
+    /**
+     * Start the local stack once per JVM when enabled - safe to call repeatedly
+     */
+    public static void startIfConfigured(ApiConfig apiConfig) {
+        if (!apiConfig.getBooleanProperty(PROP_STACK_ENABLED, false)) {
+            return;
+        }
+        synchronized (lock) {
+            if (redisServer != null) {
+                return;
+            }
+            try {
+                redisServer = new LocalRedisServer(apiConfig.getIntProperty("redis.port", 6379));
+                authStub = new LocalAuthStub(
+                        apiConfig.getIntProperty(PROP_AUTH_STUB_PORT, 18080),
+                        redisServer,
+                        apiConfig.getIntProperty("redis.database", 0),
+                        apiConfig.getProperty("redis.otp.key.prefix", "onetimepasswordsixdigit:v2:"),
+                        apiConfig.getIntProperty("redis.otp.extract.start", 6),
+                        apiConfig.getIntProperty("redis.otp.extract.end", 13),
+                        apiConfig.getIntProperty(PROP_AUTH_STUB_LATENCY_MS, 0));
+                Runtime.getRuntime().addShutdownHook(new Thread(LocalEnvironment::stop, "local-environment-shutdown"));
+            } catch (IOException e) {
+                stop();
+                throw new RuntimeException("Failed to start local environment", e);
+            }
+        }
+    }
+
+    /**
+     * Stop the local stack
+     */
+    public static void stop() {
+        synchronized (lock) {
+            if (authStub != null) {
+                authStub.close();
+                authStub = null;
+            }
+            if (redisServer != null) {
+                try {
+                    redisServer.close();
+                } catch (IOException e) {
+                    logger.logWarning("Error stopping local Redis server: " + e.getMessage());
+                }
+                redisServer = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.automation.framework.core.local;
+
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LocalRedisServer is a small in-process RESP2 server standing in for Redis in the local environment
+ * Supports the commands the framework issues (PING, SELECT, GET, SET, DEL, UNLINK, EXISTS, SCAN,
+ * HSET/HMSET, HGET, HGETALL, FLUSHDB, QUIT) so RedisManager works against it unchanged.
+ * Data lives in memory only; SCAN returns all matches in a single page.
+ */
+public class LocalRedisServer implements Closeable {
+    private static final LoggingInterface logger = new ApiLogger(LocalRedisServer.class);
+
+    private static final int DATABASES = 16;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final List<ConcurrentMap<String, Object>> databases = new ArrayList<>(DATABASES);
+    private final ServerSocket serverSocket;
+    private final ExecutorService connectionPool;
+
+    /**
+     * Start listening on the loopback interface (port 0 picks a free port)
+     */
+    public LocalRedisServer(int port) throws IOException {
+        for (int i = 0; i < DATABASES; i++) {
+            databases.add(new ConcurrentHashMap<>());
+        }
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.connectionPool = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-redis-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        connectionPool.execute(this::acceptLoop);
+        logger.logInfo("Local Redis server listening on 127.0.0.1:" + getPort());
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Write a string value directly (used by the local auth stub)
+     */
+    public void set(int database, String key, String value) {
+        databases.get(database).put(key, value);
+    }
+
+    /**
+     * Read a string value directly, null when absent or not a string
+     */
+    public String get(int database, String key) {
+        Object value = databases.get(database).get(key);
+        return value instanceof String ? (String) value : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connectionPool.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connectionPool.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.logWarning("Local Redis server accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket client = socket;
+             InputStream in = new BufferedInputStream(client.getInputStream());
+             OutputStream out = new BufferedOutputStream(client.getOutputStream())) {
+            int[] selectedDb = {0};
+            while (true) {
+                List<String> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                if (command.isEmpty()) {
+                    continue;
+                }
+                boolean keepOpen = execute(command, selectedDb, out);
+                // Pipelined commands are answered in one flush once the client stops sending
+                if (in.available() == 0 || !keepOpen) {
+                    out.flush();
+                }
+                if (!keepOpen) {
+                    return;
+                }
+            }
+        } catch (SocketException | EOFException e) {
+            // Client disconnected
+        } catch (IOException e) {
+            logger.logWarning("Local Redis connection failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Execute one command and write its reply - returns false when the connection should close
+     */
+    private boolean execute(List<String> command, int[] selectedDb, OutputStream out) throws IOException {
+        String name = command.get(0).toUpperCase();
+        List<String> args = command.subList(1, command.size());
+        ConcurrentMap<String, Object> db = databases.get(selectedDb[0]);
+
+        switch (name) {
+            case "PING":
+                if (args.isEmpty()) {
+                    writeSimple(out, "PONG");
+                } else {
+                    writeBulk(out, args.get(0));
+                }
+                break;
+            case "ECHO":
+                writeBulk(out, arg(args, 0));
+                break;
+            case "SELECT":
+                int index = Integer.parseInt(arg(args, 0));
+                if (index < 0 || index >= DATABASES) {
+                    writeError(out, "ERR DB index is out of range");
+                } else {
+                    selectedDb[0] = index;
+                    writeSimple(out, "OK");
+                }
+                break;
+            case "GET": {
+                Object value = db.get(arg(args, 0));
+                if (value != null && !(value instanceof String)) {
+                    writeWrongType(out);
+                } else {
+                    writeBulk(out, (String) value);
+                }
+                break;
+            }
+            case "SET":
+                // Expiry options (EX/PX) are accepted and ignored - local runs are short-lived
+                db.put(arg(args, 0), arg(args, 1));
+                writeSimple(out, "OK");
+                break;
+            case "DEL":
+            case "UNLINK": {
+                long removed = 0;
+                for (String key : args) {
+                    if (db.remove(key) != null) {
+                        removed++;
+                    }
+                }
+                writeInteger(out, removed);
+                break;
+            }
+            case "EXISTS": {
+                long present = 0;
+                for (String key : args) {
+                    if (db.containsKey(key)) {
+                        present++;
+                    }
+                }
+                writeInteger(out, present);
+                break;
+            }
+            case "SCAN":
+                scan(db, args, out);
+                break;
+            case "HSET":
+            case "HMSET":
+                hset(db, name, args, out);
+                break;
+            case "HGET": {
+                Object hash = db.get(arg(args, 0));
+                if (hash != null && !(hash instanceof Map)) {
+                    writeWrongType(out);
+                } else {
+                    writeBulk(out, hash != null ? (String) ((Map<?, ?>) hash).get(arg(args, 1)) : null);
+                }
+                break;
+            }
+            case "HGETALL": {
+                Object hash = db.get(arg(args, 0));
+                if (hash != null && !(hash instanceof Map)) {
+                    writeWrongType(out);
+                } else {
+                    List<String> flattened = new ArrayList<>();
+                    if (hash != null) {
+                        for (Map.Entry<?, ?> field : ((Map<?, ?>) hash).entrySet()) {
+                            flattened.add((String) field.getKey());
+                            flattened.add((String) field.getValue());
+                        }
+                    }
+                    writeArray(out, flattened);
+                }
+                break;
+            }
+            case "FLUSHDB":
+                db.clear();
+                writeSimple(out, "OK");
+                break;
+            case "QUIT":
+                writeSimple(out, "OK");
+                return false;
+            default:
+                writeError(out, "ERR unknown command '" + command.get(0) + "'");
+        }
+        return true;
+    }
+
+    private void scan(ConcurrentMap<String, Object> db, List<String> args, OutputStream out) throws IOException {
+        String match = "*";
+        for (int i = 1; i + 1 < args.size(); i += 2) {
+            if ("MATCH".equalsIgnoreCase(args.get(i))) {
+                match = args.get(i + 1);
+            }
+        }
+        List<String> keys = new ArrayList<>();
+        for (String key : db.keySet()) {
+            if (globMatches(match, 0, key, 0)) {
+                keys.add(key);
+            }
+        }
+        out.write(("*2\r\n").getBytes(StandardCharsets.US_ASCII));
+        writeBulk(out, "0");
+        writeArray(out, keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void hset(ConcurrentMap<String, Object> db, String name, List<String> args, OutputStream out) throws IOException {
+        if (args.size() < 3 || args.size() % 2 == 0) {
+            writeError(out, "ERR wrong number of arguments for '" + name.toLowerCase() + "' command");
+            return;
+        }
+        Object existing = db.computeIfAbsent(args.get(0), key -> new ConcurrentHashMap<String, String>());
+        if (!(existing instanceof Map)) {
+            writeWrongType(out);
+            return;
+        }
+        Map<String, String> hash = (Map<String, String>) existing;
+        long added = 0;
+        for (int i = 1; i + 1 < args.size(); i += 2) {
+            if (hash.put(args.get(i), args.get(i + 1)) == null) {
+                added++;
+            }
+        }
+        if ("HMSET".equals(name)) {
+            writeSimple(out, "OK");
+        } else {
+            writeInteger(out, added);
+        }
+    }
+
+    /**
+     * Redis glob matching: *, ?, [abc], [a-z], [^a] and backslash escapes
+     */
+    static boolean globMatches(String pattern, int p, String text, int t) {
+        while (p < pattern.length()) {
+            char c = pattern.charAt(p);
+            if (c == '*') {
+                for (int i = t; i <= text.length(); i++) {
+                    if (globMatches(pattern, p + 1, text, i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (t >= text.length()) {
+                return false;
+            }
+            if (c == '?') {
+                p++;
+                t++;
+            } else if (c == '[') {
+                int end = pattern.indexOf(']', p + 1);
+                if (end < 0) {
+                    return false;
+                }
+                String set = pattern.substring(p + 1, end);
+                boolean negate = set.startsWith("^");
+                if (negate) {
+                    set = set.substring(1);
+                }
+                boolean matched = false;
+                char ch = text.charAt(t);
+                for (int i = 0; i < set.length(); i++) {
+                    if (i + 2 < set.length() && set.charAt(i + 1) == '-') {
+                        matched |= ch >= set.charAt(i) && ch <= set.charAt(i + 2);
+                        i += 2;
+                    } else {
+                        matched |= set.charAt(i) == ch;
+                    }
+                }
+                if (matched == negate) {
+                    return false;
+                }
+                p = end + 1;
+                t++;
+            } else {
+                if (c == '\\' && p + 1 < pattern.length()) {
+                    c = pattern.charAt(++p);
+                }
+                if (c != text.charAt(t)) {
+                    return false;
+                }
+                p++;
+                t++;
+            }
+        }
+        return t == text.length();
+    }
+
+    // ==================== RESP PROTOCOL ====================
+
+    /**
+     * Read a RESP array of bulk strings or an inline command - null at end of stream
+     */
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String line = readLine(in);
+        if (line == null) {
+            return null;
+        }
+        if (!line.startsWith("*")) {
+            List<String> inline = new ArrayList<>();
+            for (String part : line.trim().split("\\s+")) {
+                if (!part.isEmpty()) {
+                    inline.add(part);
+                }
+            }
+            return inline;
+        }
+        int count = Integer.parseInt(line.substring(1));
+        List<String> command = new ArrayList<>(Math.max(0, count));
+        for (int i = 0; i < count; i++) {
+            String header = readLine(in);
+            if (header == null || !header.startsWith("$")) {
+                throw new IOException("Protocol error: expected bulk string");
+            }
+            int length = Integer.parseInt(header.substring(1));
+            byte[] data = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = in.read(data, read, length - read);
+                if (n < 0) {
+                    throw new EOFException();
+                }
+                read += n;
+            }
+            readLine(in);
+            command.add(new String(data, StandardCharsets.UTF_8));
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            line.write(b);
+        }
+        return line.size() > 0 ? line.toString(StandardCharsets.UTF_8.name()) : null;
+    }
+
+    private static String arg(List<String> args, int index) throws IOException {
+        if (index >= args.size()) {
+            throw new IOException("Protocol error: missing argument");
+        }
+        return args.get(index);
+    }
+
+    private static void writeSimple(OutputStream out, String value) throws IOException {
+        out.write(('+' + value).getBytes(StandardCharsets.UTF_8));
+        out.write(CRLF);
+    }
+
+    private static void writeError(OutputStream out, String message) throws IOException {
+        out.write(('-' + message).getBytes(StandardCharsets.UTF_8));
+        out.write(CRLF);
+    }
+
+    private static void writeWrongType(OutputStream out) throws IOException {
+        writeError(out, "WRONGTYPE Operation against a key holding the wrong kind of value");
+    }
+
+    private static void writeInteger(OutputStream out, long value) throws IOException {
+        out.write((":" + value).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+    private static void writeBulk(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.write("$-1".getBytes(StandardCharsets.US_ASCII));
+            out.write(CRLF);
+            return;
+        }
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.write(("$" + data.length).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+        out.write(data);
+        out.write(CRLF);
+    }
+
+    private static void writeArray(OutputStream out, List<String> values) throws IOException {
+        out.write(("*" + values.size()).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+        for (String value : values) {
+            writeBulk(out, value);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.automation.framework.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter backed by LongAdder - cheap under contention from many threads
+ */
+public class Counter {
+    private final LongAdder value = new LongAdder();
+
+    public void inc() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,137 @@
+package com.automation.framework.core.metrics;
+
+import com.automation.framework.core.reporting.AllureAttachmentWriter;
+import com.automation.framework.shared.utils.EndpointTemplate;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Framework-wide instruments fed from BaseApiTest, SessionAuthenticationManager and RedisManager
+ */
+public final class FrameworkMetrics {
+    private static final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    // Redis latency buckets in seconds - sub-millisecond resolution for pool borrows and single commands
+    private static final double[] REDIS_LATENCY_BUCKETS = {
+            0.0001, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.5, 1.0, 5.0
+    };
+
+    public static final MetricFamily<Counter> API_REQUESTS = registry.counter(
+            "api_requests_total", "API requests sent", "method", "endpoint");
+
+    public static final MetricFamily<Counter> API_ERRORS = registry.counter(
+            "api_errors_total", "API calls that returned a non 2xx/3xx status or failed in transport", "status_class");
+
+    public static final MetricFamily<Histogram> API_LATENCY = registry.histogram(
+            "api_request_duration_seconds", "API call latency per endpoint template",
+            Histogram.DEFAULT_LATENCY_BUCKETS, "method", "endpoint");
+
+    public static final Gauge API_IN_FLIGHT = registry.gauge(
+            "api_requests_in_flight", "API requests currently waiting for a response").labels();
+
+    public static final MetricFamily<Counter> AUTH_REFRESHES = registry.counter(
+            "auth_token_refreshes_total", "Session token acquisitions (login flows)", "result");
+
+    public static final MetricFamily<Histogram> AUTH_OTP_WAIT = registry.histogram(
+            "auth_otp_wait_seconds", "Time from OTP send until the OTP was readable in Redis",
+            new double[]{0.05, 0.1, 0.25, 0.5, 1.0, 2.0, 5.0, 10.0}, "result");
+
+    public static final MetricFamily<Histogram> AUTH_STAGE_LATENCY = registry.histogram(
+            "auth_stage_duration_seconds", "Auth flow latency per stage (otp_send, otp_fetch, login)",
+            Histogram.DEFAULT_LATENCY_BUCKETS, "stage", "result");
+
+    public static final MetricFamily<Counter> SESSION_REQUESTS = registry.counter(
+            "auth_session_requests_total", "API requests issued per pooled session", "session");
+
+    public static final MetricFamily<Counter> REDIS_CALLS = registry.counter(
+            "redis_calls_total", "Redis operations issued by the framework", "operation", "result");
+
+    public static final MetricFamily<Histogram> REDIS_LATENCY = registry.histogram(
+            "redis_operation_duration_seconds", "Redis operation latency including pool borrow",
+            REDIS_LATENCY_BUCKETS, "operation");
+
+    public static final Histogram REDIS_POOL_BORROW_WAIT = registry.histogram(
+            "redis_pool_borrow_wait_seconds", "Time spent waiting for a pooled Redis connection",
+            REDIS_LATENCY_BUCKETS).labels();
+
+    public static final MetricFamily<Histogram> REDIS_POOL_VALIDATIONS = registry.histogram(
+            "redis_pool_validation_duration_seconds", "Connection validation round-trips (PING) issued by the pool",
+            REDIS_LATENCY_BUCKETS, "result");
+
+    public static final Counter REDIS_POOL_CONNECTIONS_CREATED = registry.counter(
+            "redis_pool_connections_created_total", "Redis connections opened by the pool").labels();
+
+    public static final Counter REDIS_KEYS_SCANNED = registry.counter(
+            "redis_cleanup_keys_scanned_total", "Keys returned by SCAN during OTP limit cleanup").labels();
+
+    public static final Counter REDIS_KEYS_DELETED = registry.counter(
+            "redis_cleanup_keys_deleted_total", "Keys removed by OTP limit cleanup").labels();
+
+    public static final Gauge REPORTER_QUEUE_DEPTH = registry.gauge(
+            "reporter_queue_depth", "Report attachment writes queued but not yet written",
+            AllureAttachmentWriter::currentQueueDepth);
+
+    private FrameworkMetrics() {
+    }
+
+    /**
+     * Register the Redis pool gauges - pushed by RedisManager so metrics does not depend on the auth package
+     */
+    public static void registerRedisPoolGauges(LongSupplier active, LongSupplier idle, LongSupplier waiters) {
+        registry.gauge("redis_pool_active_connections", "Redis connections currently borrowed", active);
+        registry.gauge("redis_pool_idle_connections", "Redis connections idle in the pool", idle);
+        registry.gauge("redis_pool_waiters", "Threads blocked waiting for a Redis connection", waiters);
+    }
+
+    /**
+     * Record a completed API call
+     */
+    public static void recordApiCall(String method, String endpoint, int statusCode, long durationNanos) {
+        String template = EndpointTemplate.of(endpoint);
+        API_REQUESTS.labels(method, template).inc();
+        API_LATENCY.labels(method, template).observeNanos(durationNanos);
+        if (statusCode < 200 || statusCode >= 400) {
+            API_ERRORS.labels((statusCode / 100) + "xx").inc();
+        }
+    }
+
+    /**
+     * Record an API call that never produced a response (connection error, timeout)
+     */
+    public static void recordApiFailure(String method, String endpoint, long durationNanos) {
+        String template = EndpointTemplate.of(endpoint);
+        API_REQUESTS.labels(method, template).inc();
+        API_LATENCY.labels(method, template).observeNanos(durationNanos);
+        API_ERRORS.labels("transport").inc();
+    }
+
+    public static void recordAuthRefresh(boolean success) {
+        AUTH_REFRESHES.labels(success ? "success" : "failure").inc();
+    }
+
+    public static void recordOtpWait(boolean arrived, long waitedNanos) {
+        AUTH_OTP_WAIT.labels(arrived ? "arrived" : "timeout").observeNanos(waitedNanos);
+    }
+
+    public static void recordAuthStage(String stage, boolean success, long durationNanos) {
+        AUTH_STAGE_LATENCY.labels(stage, success ? "success" : "failure").observeNanos(durationNanos);
+    }
+
+    public static void recordKeyCleanup(long scanned, long deleted) {
+        REDIS_KEYS_SCANNED.add(scanned);
+        REDIS_KEYS_DELETED.add(deleted);
+    }
+
+    public static void recordRedisCall(String operation, boolean success) {
+        REDIS_CALLS.labels(operation, success ? "success" : "failure").inc();
+    }
+
+    public static void recordRedisCall(String operation, boolean success, long durationNanos) {
+        recordRedisCall(operation, success);
+        REDIS_LATENCY.labels(operation).observeNanos(durationNanos);
+    }
+
+    public static void recordRedisValidation(boolean valid, long durationNanos) {
+        REDIS_POOL_VALIDATIONS.labels(valid ? "valid" : "invalid").observeNanos(durationNanos);
+    }
+}
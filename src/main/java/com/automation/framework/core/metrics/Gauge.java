@@ -0,0 +1,32 @@
+package com.automation.framework.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Gauge that is either adjusted in place (in-flight style) or read from a supplier at scrape time
+ */
+public class Gauge {
+    private final LongAdder value = new LongAdder();
+    private final LongSupplier supplier;
+
+    public Gauge() {
+        this(null);
+    }
+
+    public Gauge(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    public void inc() {
+        value.increment();
+    }
+
+    public void dec() {
+        value.decrement();
+    }
+
+    public long get() {
+        return supplier != null ? supplier.getAsLong() : value.sum();
+    }
+}
@@ -0,0 +1,75 @@
+package com.automation.framework.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram with LongAdder cells
+ * Observations are recorded in nanoseconds and exported in seconds.
+ */
+public class Histogram {
+    // Default latency buckets in seconds - tuned for HTTP APIs
+    public static final double[] DEFAULT_LATENCY_BUCKETS = {
+            0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0
+    };
+
+    private final double[] upperBounds;
+    private final long[] upperBoundsNanos;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+
+    public Histogram(double[] upperBoundsSeconds) {
+        this.upperBounds = upperBoundsSeconds.clone();
+        this.upperBoundsNanos = new long[upperBounds.length];
+        // One extra bucket for +Inf
+        this.buckets = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < upperBounds.length; i++) {
+            upperBoundsNanos[i] = (long) (upperBounds[i] * 1_000_000_000L);
+        }
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void observeNanos(long nanos) {
+        int index = upperBoundsNanos.length;
+        for (int i = 0; i < upperBoundsNanos.length; i++) {
+            if (nanos <= upperBoundsNanos[i]) {
+                index = i;
+                break;
+            }
+        }
+        buckets[index].increment();
+        count.increment();
+        sumNanos.add(nanos);
+    }
+
+    public void observeMillis(long millis) {
+        observeNanos(millis * 1_000_000L);
+    }
+
+    public double[] getUpperBounds() {
+        return upperBounds.clone();
+    }
+
+    /**
+     * Cumulative counts per bucket, last element is the +Inf bucket
+     */
+    public long[] getCumulativeCounts() {
+        long[] cumulative = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getSumSeconds() {
+        return sumNanos.sum() / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.automation.framework.core.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Named metric with label dimensions - one child instrument per distinct label value combination
+ */
+public class MetricFamily<T> {
+
+    public enum Type {
+        COUNTER, GAUGE, HISTOGRAM
+    }
+
+    private final String name;
+    private final String help;
+    private final Type type;
+    private final List<String> labelNames;
+    private final Supplier<T> childFactory;
+    private final Map<List<String>, T> children = new ConcurrentHashMap<>();
+
+    MetricFamily(String name, String help, Type type, String[] labelNames, Supplier<T> childFactory) {
+        this.name = name;
+        this.help = help;
+        this.type = type;
+        this.labelNames = Arrays.asList(labelNames.clone());
+        this.childFactory = childFactory;
+    }
+
+    /**
+     * Get (or create) the child instrument for the given label values
+     */
+    public T labels(String... labelValues) {
+        if (labelValues.length != labelNames.size()) {
+            throw new IllegalArgumentException("Metric " + name + " expects labels " + labelNames +
+                                               " but got " + labelValues.length + " value(s)");
+        }
+        List<String> key = Arrays.asList(labelValues);
+        T child = children.get(key);
+        if (child == null) {
+            child = children.computeIfAbsent(Arrays.asList(labelValues.clone()), k -> childFactory.get());
+        }
+        return child;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public List<String> getLabelNames() {
+        return labelNames;
+    }
+
+    public Map<List<String>, T> getChildren() {
+        return children;
+    }
+}
@@ -0,0 +1,116 @@
+package com.automation.framework.core.metrics;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+
+/**
+ * Exposes MetricsRegistry over a small local HTTP endpoint and as a final text file
+ * Enable the endpoint with metrics.http.port (config or -D), e.g. -Dmetrics.http.port=9464
+ */
+public class MetricsExporter {
+    private static final LoggingInterface logger = new ApiLogger(MetricsExporter.class);
+
+    // Configuration keys for metrics properties
+    private static final String PROP_HTTP_PORT = "metrics.http.port";
+    private static final String PROP_HTTP_HOST = "metrics.http.host";
+    private static final String PROP_OUTPUT_FILE = "metrics.output.file";
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final Object lock = new Object();
+    private static boolean started;
+    private static HttpServer server;
+    private static Path outputFile;
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Start the HTTP endpoint (if configured) and register the final file dump - safe to call repeatedly
+     */
+    public static void startIfConfigured(ApiConfig apiConfig) {
+        synchronized (lock) {
+            if (started) {
+                return;
+            }
+            started = true;
+
+            outputFile = Paths.get(property(apiConfig, PROP_OUTPUT_FILE, "target/metrics/metrics.prom"));
+            Runtime.getRuntime().addShutdownHook(new Thread(MetricsExporter::shutdown, "metrics-exporter-shutdown"));
+
+            int port = Integer.parseInt(property(apiConfig, PROP_HTTP_PORT, "0"));
+            if (port <= 0) {
+                logger.logDebug("Metrics HTTP endpoint disabled (" + PROP_HTTP_PORT + " not set)");
+                return;
+            }
+            String host = property(apiConfig, PROP_HTTP_HOST, "127.0.0.1");
+            try {
+                server = HttpServer.create(new InetSocketAddress(host, port), 0);
+                server.createContext("/metrics", exchange -> {
+                    byte[] body = MetricsRegistry.getInstance().scrape().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+                server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "metrics-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+                server.start();
+                logger.logInfo("Metrics endpoint listening on http://" + host + ":" + port + "/metrics");
+            } catch (IOException e) {
+                logger.logError("Failed to start metrics endpoint on " + host + ":" + port + " - continuing without it", e);
+                server = null;
+            }
+        }
+    }
+
+    /**
+     * Write the current metrics snapshot to the configured output file
+     */
+    public static void writeSnapshot() {
+        Path target;
+        synchronized (lock) {
+            target = outputFile;
+        }
+        if (target == null) {
+            return;
+        }
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Files.write(target, MetricsRegistry.getInstance().scrape().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.logError("Failed to write metrics snapshot to: " + target, e);
+        }
+    }
+
+    private static void shutdown() {
+        writeSnapshot();
+        synchronized (lock) {
+            if (server != null) {
+                server.stop(0);
+                server = null;
+            }
+        }
+    }
+
+    private static String property(ApiConfig apiConfig, String key, String defaultValue) {
+        return System.getProperty(key, apiConfig.getProperty(key, defaultValue));
+    }
+}
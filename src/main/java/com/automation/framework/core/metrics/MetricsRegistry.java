@@ -0,0 +1,137 @@
+package com.automation.framework.core.metrics;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide registry of framework metrics
+ * Renders all registered families in the Prometheus text exposition format (0.0.4).
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry instance = new MetricsRegistry();
+
+    private final Map<String, MetricFamily<?>> families = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Get singleton registry instance
+     */
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+
+    public MetricFamily<Counter> counter(String name, String help, String... labelNames) {
+        return register(new MetricFamily<>(name, help, MetricFamily.Type.COUNTER, labelNames, Counter::new));
+    }
+
+    public MetricFamily<Gauge> gauge(String name, String help, String... labelNames) {
+        return register(new MetricFamily<>(name, help, MetricFamily.Type.GAUGE, labelNames, Gauge::new));
+    }
+
+    /**
+     * Register an unlabelled gauge that is read from a supplier at scrape time
+     */
+    public Gauge gauge(String name, String help, LongSupplier supplier) {
+        return register(new MetricFamily<>(name, help, MetricFamily.Type.GAUGE, new String[0],
+                                           () -> new Gauge(supplier))).labels();
+    }
+
+    public MetricFamily<Histogram> histogram(String name, String help, double[] buckets, String... labelNames) {
+        return register(new MetricFamily<>(name, help, MetricFamily.Type.HISTOGRAM, labelNames,
+                                           () -> new Histogram(buckets)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> MetricFamily<T> register(MetricFamily<T> family) {
+        MetricFamily<?> existing = families.putIfAbsent(family.getName(), family);
+        if (existing != null) {
+            if (existing.getType() != family.getType()) {
+                throw new IllegalArgumentException("Metric " + family.getName() + " already registered as " + existing.getType());
+            }
+            return (MetricFamily<T>) existing;
+        }
+        return family;
+    }
+
+    /**
+     * Render every metric in text exposition format
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        families.values().stream()
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .forEach(family -> renderFamily(out, family));
+        return out.toString();
+    }
+
+    private void renderFamily(StringBuilder out, MetricFamily<?> family) {
+        String typeName = family.getType().name().toLowerCase(Locale.ROOT);
+        out.append("# HELP ").append(family.getName()).append(' ').append(family.getHelp()).append('\n');
+        out.append("# TYPE ").append(family.getName()).append(' ').append(typeName).append('\n');
+
+        for (Map.Entry<List<String>, ?> child : family.getChildren().entrySet()) {
+            String labels = renderLabels(family.getLabelNames(), child.getKey(), null);
+            Object instrument = child.getValue();
+            if (instrument instanceof Counter) {
+                sample(out, family.getName(), labels, ((Counter) instrument).get());
+            } else if (instrument instanceof Gauge) {
+                sample(out, family.getName(), labels, ((Gauge) instrument).get());
+            } else if (instrument instanceof Histogram) {
+                renderHistogram(out, family, child.getKey(), (Histogram) instrument);
+            }
+        }
+    }
+
+    private void renderHistogram(StringBuilder out, MetricFamily<?> family, List<String> labelValues, Histogram histogram) {
+        double[] bounds = histogram.getUpperBounds();
+        long[] cumulative = histogram.getCumulativeCounts();
+        for (int i = 0; i < cumulative.length; i++) {
+            String le = i < bounds.length ? formatDouble(bounds[i]) : "+Inf";
+            sample(out, family.getName() + "_bucket", renderLabels(family.getLabelNames(), labelValues, le), cumulative[i]);
+        }
+        String labels = renderLabels(family.getLabelNames(), labelValues, null);
+        out.append(family.getName()).append("_sum").append(labels).append(' ')
+           .append(formatDouble(histogram.getSumSeconds())).append('\n');
+        sample(out, family.getName() + "_count", labels, cumulative[cumulative.length - 1]);
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static String renderLabels(List<String> names, List<String> values, String le) {
+        if (names.isEmpty() && le == null) {
+            return "";
+        }
+        StringBuilder labels = new StringBuilder("{");
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(names.get(i)).append("=\"").append(escape(values.get(i))).append('"');
+        }
+        if (le != null) {
+            if (!names.isEmpty()) {
+                labels.append(',');
+            }
+            labels.append("le=\"").append(le).append('"');
+        }
+        return labels.append('}').toString();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String formatDouble(double value) {
+        return Double.toString(value);
+    }
+}
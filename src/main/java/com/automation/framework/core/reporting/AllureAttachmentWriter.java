@@ -0,0 +1,212 @@
+package com.automation.framework.core.reporting;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AllureAttachmentWriter moves Allure attachment file I/O off the test thread
+ * The attachment link is registered on the calling thread (cheap), the file is written by a small I/O pool.
+ * Identical attachment content is written once and re-linked by content hash.
+ */
+public class AllureAttachmentWriter {
+    private static final LoggingInterface logger = new ApiLogger(AllureAttachmentWriter.class);
+
+    // Configuration keys for the attachment writer
+    private static final String PROP_WRITER_THREADS = "report.allure.attachment.threads";
+    private static final String PROP_DEDUP_MAX_ENTRIES = "report.allure.attachment.dedup.max.entries";
+
+    private static volatile AllureAttachmentWriter instance;
+    private static final Object lock = new Object();
+
+    private final ExecutorService ioPool;
+    private final Queue<Future<?>> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    // content hash -> attachment source file already written to allure-results (least recently used evicted first)
+    private final Map<String, String> writtenSources;
+
+    private AllureAttachmentWriter() {
+        ApiConfig apiConfig = new ApiConfig();
+        int threads = intSetting(apiConfig, PROP_WRITER_THREADS, 2);
+        int dedupMaxEntries = intSetting(apiConfig, PROP_DEDUP_MAX_ENTRIES, 10000);
+        this.writtenSources = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > dedupMaxEntries;
+            }
+        });
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.ioPool = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "allure-attachment-writer-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "allure-attachment-flush"));
+    }
+
+    private static int intSetting(ApiConfig apiConfig, String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(apiConfig.getIntProperty(key, defaultValue))).trim());
+    }
+
+    /**
+     * Get shared writer instance
+     */
+    public static AllureAttachmentWriter getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new AllureAttachmentWriter();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Attach in-memory content to the current test case or step
+     */
+    public void attach(String name, String type, String fileExtension, byte[] content) {
+        if (content == null) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String hash = type + ":" + contentHash(content);
+
+        String existingSource = writtenSources.get(hash);
+        if (existingSource != null) {
+            linkExistingSource(lifecycle, name, type, existingSource);
+            return;
+        }
+
+        String source = lifecycle.prepareAttachment(name, type, fileExtension);
+        submitWrite(() -> {
+            try {
+                lifecycle.writeAttachment(source, new ByteArrayInputStream(content));
+                // Only a written file may be re-linked - a failed write must not be reused
+                writtenSources.putIfAbsent(hash, source);
+            } catch (RuntimeException e) {
+                logger.logError("Failed to write attachment: " + name, e);
+            }
+        });
+    }
+
+    /**
+     * Attach a file from disk - the file is opened and streamed on the I/O pool
+     */
+    public void attachFile(String name, String type, String fileExtension, Path path) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, type, fileExtension);
+        submitWrite(() -> {
+            try (InputStream stream = Files.newInputStream(path)) {
+                lifecycle.writeAttachment(source, stream);
+            } catch (Exception e) {
+                logger.logError("Failed to write attachment file: " + path, e);
+            }
+        });
+    }
+
+    /**
+     * Wait for all queued attachment writes to finish
+     */
+    public void flush() {
+        Future<?> pending;
+        while ((pending = pendingWrites.poll()) != null) {
+            try {
+                pending.get(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.logError("Allure attachment write failed", e);
+            }
+        }
+    }
+
+    /**
+     * Number of attachment writes queued but not yet completed
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Queue depth of the shared writer without creating it - 0 when Allure reporting is not in use
+     */
+    public static long currentQueueDepth() {
+        AllureAttachmentWriter writer = instance;
+        return writer != null ? writer.getQueueDepth() : 0;
+    }
+
+    private void submitWrite(Runnable write) {
+        queueDepth.incrementAndGet();
+        pendingWrites.add(ioPool.submit(() -> {
+            try {
+                write.run();
+            } finally {
+                queueDepth.decrementAndGet();
+            }
+        }));
+        // Completed futures are dropped eagerly so the queue does not grow with run length
+        while (pendingWrites.peek() != null && pendingWrites.peek().isDone()) {
+            pendingWrites.poll();
+        }
+    }
+
+    /**
+     * Add an attachment entry that points at an already written source file
+     */
+    private void linkExistingSource(AllureLifecycle lifecycle, String name, String type, String source) {
+        Optional<String> current = lifecycle.getCurrentTestCaseOrStep();
+        if (!current.isPresent()) {
+            logger.logWarning("Could not link attachment '" + name + "': no test case or step is running");
+            return;
+        }
+        Attachment attachment = new Attachment().setName(name).setType(type).setSource(source);
+        String uuid = current.get();
+        if (uuid.equals(lifecycle.getCurrentTestCase().orElse(null))) {
+            lifecycle.updateTestCase(uuid, result -> result.getAttachments().add(attachment));
+        } else {
+            lifecycle.updateStep(uuid, step -> step.getAttachments().add(attachment));
+        }
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content);
+            StringBuilder hexString = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+            return hexString.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+}
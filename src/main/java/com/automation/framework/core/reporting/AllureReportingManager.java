@@ -5,11 +5,15 @@ import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 import io.qameta.allure.model.Status;
 import io.restassured.response.Response;
-import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 public class AllureReportingManager implements ReportingInterface {
 
+    private final AllureAttachmentWriter attachmentWriter = AllureAttachmentWriter.getInstance();
+
     @Override
     public void initializeReport(String suiteName, String environment) {
         Allure.parameter("Suite Name", suiteName);
@@ -34,8 +38,8 @@ public class AllureReportingManager implements ReportingInterface {
     @Override
     @Step("API Request: {method} {endpoint}")
     public void logApiRequest(String method, String endpoint, String requestBody, String headers) {
-        Allure.addAttachment("Request Headers", "application/json", headers, "json");
-        Allure.addAttachment("Request Body", "application/json", requestBody, "json");
+        attach("Request Headers", "application/json", headers, "json");
+        attach("Request Body", "application/json", requestBody, "json");
         Allure.parameter("HTTP Method", method);
         Allure.parameter("Endpoint", endpoint);
     }
@@ -43,8 +47,8 @@ public class AllureReportingManager implements ReportingInterface {
     @Override
     @Step("API Response received")
     public void logApiResponse(Response response, String responseBody) {
-        Allure.addAttachment("Response Body", "application/json", responseBody, "json");
-        Allure.addAttachment("Response Headers", response.getHeaders().toString());
+        attach("Response Body", "application/json", responseBody, "json");
+        attach("Response Headers", "text/plain", response.getHeaders().toString(), "txt");
         Allure.parameter("Status Code", response.getStatusCode());
         Allure.parameter("Response Time", response.getTime() + " ms");
     }
@@ -58,7 +62,7 @@ public class AllureReportingManager implements ReportingInterface {
     public void markTestFailed(String testName, String errorMessage, Throwable exception) {
         Allure.step(errorMessage, Status.FAILED);
         if (exception != null) {
-            Allure.addAttachment("Exception Details", exception.toString());
+            attach("Exception Details", "text/plain", exception.toString(), "txt");
         }
     }
 
@@ -69,9 +73,14 @@ public class AllureReportingManager implements ReportingInterface {
 
     @Override
     public void addScreenshot(String screenshotPath, String description) {
+        // The file is read asynchronously, so check it here where a missing screenshot can still be reported
         try {
-            Allure.addAttachment(description, "image/png",
-                    new java.io.FileInputStream(screenshotPath), "png");
+            Path path = Paths.get(screenshotPath);
+            if (!Files.isReadable(path)) {
+                Allure.addAttachment("Screenshot Error", "Screenshot file not readable: " + screenshotPath);
+                return;
+            }
+            attachmentWriter.attachFile(description, "image/png", "png", path);
         } catch (Exception e) {
             Allure.addAttachment("Screenshot Error", e.getMessage());
         }
@@ -79,7 +88,14 @@ public class AllureReportingManager implements ReportingInterface {
 
     @Override
     public void finalizeReport() {
-        // Allure reports are generated by the command line tool
+        // Allure reports are generated by the command line tool - only pending attachment writes are drained here
+        attachmentWriter.flush();
+    }
+
+    private void attach(String name, String type, String content, String fileExtension) {
+        if (content != null) {
+            attachmentWriter.attach(name, type, fileExtension, content.getBytes(StandardCharsets.UTF_8));
+        }
     }
 
     @Override
@@ -13,7 +13,8 @@ import java.time.format.DateTimeFormatter;
 public class ExtentReportManager implements ReportingInterface {
 
     private ExtentReports extentReports;
-    private ExtentTest extentTest;
+    // Current test per thread - rows of parallel data providers report concurrently
+    private final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
     private String reportPath;
 
     @Override
@@ -37,7 +38,7 @@ public class ExtentReportManager implements ReportingInterface {
 
     @Override
     public void startTest(String testName, String description) {
-        extentTest = extentReports.createTest(testName, description);
+        extentTest.set(extentReports.createTest(testName, description));
     }
 
     @Override
@@ -67,7 +68,7 @@ public class ExtentReportManager implements ReportingInterface {
             default:
                 extentStatus = Status.INFO;
         }
-        extentTest.log(extentStatus, stepDescription);
+        extentTest.get().log(extentStatus, stepDescription);
     }
 
     @Override
@@ -77,7 +78,7 @@ public class ExtentReportManager implements ReportingInterface {
                 "<b>Headers:</b> <pre>" + headers + "</pre><br>" +
                 "<b>Request Body:</b> <pre>" + requestBody + "</pre>";
 
-        extentTest.info("API Request Details: " + requestDetails);
+        extentTest.get().info("API Request Details: " + requestDetails);
     }
 
     @Override
@@ -87,30 +88,30 @@ public class ExtentReportManager implements ReportingInterface {
                 "<b>Response Headers:</b> <pre>" + response.getHeaders().toString() + "</pre><br>" +
                 "<b>Response Body:</b> <pre>" + responseBody + "</pre>";
 
-        extentTest.info("API Response Details: " + responseDetails);
+        extentTest.get().info("API Response Details: " + responseDetails);
     }
 
     @Override
     public void markTestPassed(String testName, String details) {
-        extentTest.pass(details);
+        extentTest.get().pass(details);
     }
 
     @Override
     public void markTestFailed(String testName, String errorMessage, Throwable exception) {
-        extentTest.fail(errorMessage);
+        extentTest.get().fail(errorMessage);
         if (exception != null) {
-            extentTest.fail(exception);
+            extentTest.get().fail(exception);
         }
     }
 
     @Override
     public void markTestSkipped(String testName, String reason) {
-        extentTest.skip(reason);
+        extentTest.get().skip(reason);
     }
 
     @Override
     public void addScreenshot(String screenshotPath, String description) {
-        extentTest.addScreenCaptureFromPath(screenshotPath, description);
+        extentTest.get().addScreenCaptureFromPath(screenshotPath, description);
     }
 
     @Override
@@ -0,0 +1,55 @@
+package com.automation.framework.core.reporting;
+
+import com.automation.framework.core.interfaces.ReportingInterface;
+import io.restassured.response.Response;
+
+/**
+ * Reporter that discards everything - used for load runs (-Dreport.mode=none)
+ */
+public class NoOpReportManager implements ReportingInterface {
+
+    @Override
+    public void initializeReport(String suiteName, String environment) {
+    }
+
+    @Override
+    public void startTest(String testName, String description) {
+    }
+
+    @Override
+    public void logStep(String stepDescription, String status) {
+    }
+
+    @Override
+    public void logApiRequest(String method, String endpoint, String requestBody, String headers) {
+    }
+
+    @Override
+    public void logApiResponse(Response response, String responseBody) {
+    }
+
+    @Override
+    public void markTestPassed(String testName, String details) {
+    }
+
+    @Override
+    public void markTestFailed(String testName, String errorMessage, Throwable exception) {
+    }
+
+    @Override
+    public void markTestSkipped(String testName, String reason) {
+    }
+
+    @Override
+    public void addScreenshot(String screenshotPath, String description) {
+    }
+
+    @Override
+    public void finalizeReport() {
+    }
+
+    @Override
+    public String getReportPath() {
+        return "reporting disabled (report.mode=none)";
+    }
+}
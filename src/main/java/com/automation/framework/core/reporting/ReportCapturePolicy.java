@@ -0,0 +1,171 @@
+package com.automation.framework.core.reporting;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.ReportingInterface;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ReportCapturePolicy decides which API request/response details reach the report
+ * Supports always, on-failure-only (lazy per-test buffer) and sampled capture with size caps
+ */
+public class ReportCapturePolicy {
+
+    public enum CaptureMode {
+        ALWAYS,      // Every request is written to the report immediately
+        ON_FAILURE,  // Requests are buffered and only written when the test fails
+        SAMPLED      // A percentage of tests is captured fully, the rest behave like ON_FAILURE
+    }
+
+    // Configuration keys for capture properties
+    private static final String PROP_CAPTURE_MODE = "report.capture.mode";
+    private static final String PROP_SAMPLE_PERCENT = "report.capture.sample.percent";
+    private static final String PROP_MAX_BODY_CHARS = "report.capture.max.body.chars";
+    private static final String PROP_MAX_HEADER_CHARS = "report.capture.max.header.chars";
+    private static final String PROP_BUFFER_SIZE = "report.capture.buffer.size";
+
+    private static final String TRUNCATION_MARKER = "... [truncated ";
+    private static final String TRUNCATION_SUFFIX = " chars]";
+
+    private final CaptureMode mode;
+    private final int samplePercent;
+    private final int maxBodyChars;
+    private final int maxHeaderChars;
+    private final int bufferSize;
+
+    // Per-test state - tests of one class may run on different threads
+    private final ThreadLocal<TestCapture> currentTest = ThreadLocal.withInitial(TestCapture::new);
+
+    public ReportCapturePolicy(ApiConfig apiConfig) {
+        String configuredMode = System.getProperty(PROP_CAPTURE_MODE, apiConfig.getProperty(PROP_CAPTURE_MODE, "always"));
+        this.mode = parseMode(configuredMode);
+        this.samplePercent = Math.max(0, Math.min(100, apiConfig.getIntProperty(PROP_SAMPLE_PERCENT, 10)));
+        this.maxBodyChars = apiConfig.getIntProperty(PROP_MAX_BODY_CHARS, 10000);
+        this.maxHeaderChars = apiConfig.getIntProperty(PROP_MAX_HEADER_CHARS, 4000);
+        this.bufferSize = apiConfig.getIntProperty(PROP_BUFFER_SIZE, 20);
+    }
+
+    private static CaptureMode parseMode(String value) {
+        try {
+            return CaptureMode.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown report capture mode: " + value +
+                                               ". Available modes: ALWAYS, ON_FAILURE, SAMPLED");
+        }
+    }
+
+    public CaptureMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Reset per-test state and decide whether the test is captured eagerly
+     */
+    public void beginTest() {
+        TestCapture capture = currentTest.get();
+        capture.pending.clear();
+        capture.eager = mode == CaptureMode.ALWAYS
+                || (mode == CaptureMode.SAMPLED && ThreadLocalRandom.current().nextInt(100) < samplePercent);
+    }
+
+    /**
+     * Capture an API request - written immediately or buffered depending on the policy.
+     * Header map is only rendered to a string when the entry is actually reported.
+     */
+    public void captureRequest(ReportingInterface reportManager, String method, String endpoint,
+                               String body, Map<String, String> headers) {
+        TestCapture capture = currentTest.get();
+        if (capture.eager) {
+            writeRequest(reportManager, method, endpoint, body, headers);
+            return;
+        }
+        if (capture.pending.size() >= bufferSize) {
+            capture.pending.remove(0);
+            capture.dropped++;
+        }
+        capture.pending.add(new PendingRequest(method, endpoint, body, headers));
+    }
+
+    /**
+     * Capture an API response - only called on failure paths, so pending requests are flushed first
+     */
+    public void captureResponse(ReportingInterface reportManager, Response response, String responseBody) {
+        flushPending(reportManager);
+        reportManager.logApiResponse(response, truncate(responseBody, maxBodyChars));
+    }
+
+    /**
+     * Test failed - write out everything buffered for it
+     */
+    public void onTestFailed(ReportingInterface reportManager) {
+        flushPending(reportManager);
+    }
+
+    /**
+     * Test passed - discard buffered entries without rendering them
+     */
+    public void onTestPassed() {
+        TestCapture capture = currentTest.get();
+        capture.pending.clear();
+        capture.dropped = 0;
+    }
+
+    private void flushPending(ReportingInterface reportManager) {
+        TestCapture capture = currentTest.get();
+        if (capture.dropped > 0) {
+            reportManager.logStep(capture.dropped + " earlier API request(s) omitted from report (capture buffer size: "
+                                  + bufferSize + ")", "INFO");
+            capture.dropped = 0;
+        }
+        for (PendingRequest request : capture.pending) {
+            writeRequest(reportManager, request.method, request.endpoint, request.body, request.headers);
+        }
+        capture.pending.clear();
+    }
+
+    private void writeRequest(ReportingInterface reportManager, String method, String endpoint,
+                              String body, Map<String, String> headers) {
+        reportManager.logApiRequest(method, endpoint, truncate(body, maxBodyChars),
+                                    truncate(String.valueOf(headers), maxHeaderChars));
+    }
+
+    /**
+     * Cut text to the configured size cap and append a truncation marker
+     */
+    public static String truncate(String text, int maxChars) {
+        if (text == null || maxChars <= 0 || text.length() <= maxChars) {
+            return text;
+        }
+        return text.substring(0, maxChars) + TRUNCATION_MARKER + (text.length() - maxChars) + TRUNCATION_SUFFIX;
+    }
+
+    /**
+     * Per-test capture state
+     */
+    private static class TestCapture {
+        private final List<PendingRequest> pending = new ArrayList<>();
+        private boolean eager = true;
+        private int dropped;
+    }
+
+    /**
+     * Buffered request - keeps references only, nothing is rendered until flushed
+     */
+    private static class PendingRequest {
+        private final String method;
+        private final String endpoint;
+        private final String body;
+        private final Map<String, String> headers;
+
+        private PendingRequest(String method, String endpoint, String body, Map<String, String> headers) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.body = body;
+            this.headers = headers;
+        }
+    }
+}
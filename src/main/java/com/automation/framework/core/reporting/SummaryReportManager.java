@@ -0,0 +1,202 @@
+package com.automation.framework.core.reporting;
+
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.interfaces.ReportingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.automation.framework.shared.utils.EndpointTemplate;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reporter for load runs (-Dreport.mode=summary)
+ * Skips per-request entries and only writes aggregate per-endpoint latency and error tables.
+ * One summary file covers every suite of the run; each suite keeps its own endpoint statistics.
+ */
+public class SummaryReportManager implements ReportingInterface {
+    private static final LoggingInterface logger = new ApiLogger(SummaryReportManager.class);
+
+    private static final String RUN_TIMESTAMP = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+    private static final String REPORT_PATH = "reports/summary/RunSummary_" + RUN_TIMESTAMP + ".txt";
+
+    // Suite name -> statistics; shared so the run summary covers every suite of the JVM
+    private static final Map<String, SuiteStats> suiteStats = new ConcurrentHashMap<>();
+
+    private SuiteStats stats;
+
+    @Override
+    public void initializeReport(String suiteName, String environment) {
+        this.stats = suiteStats.computeIfAbsent(suiteName, name -> new SuiteStats());
+    }
+
+    @Override
+    public void startTest(String testName, String description) {
+    }
+
+    @Override
+    public void logStep(String stepDescription, String status) {
+    }
+
+    @Override
+    public void logApiRequest(String method, String endpoint, String requestBody, String headers) {
+    }
+
+    @Override
+    public void logApiResponse(Response response, String responseBody) {
+    }
+
+    @Override
+    public void recordApiCall(String method, String endpoint, int statusCode, long responseTimeMs) {
+        String key = method + " " + EndpointTemplate.of(endpoint);
+        stats.endpoints.computeIfAbsent(key, k -> new EndpointStats()).record(statusCode, responseTimeMs);
+    }
+
+    @Override
+    public void markTestPassed(String testName, String details) {
+        stats.passed.increment();
+    }
+
+    @Override
+    public void markTestFailed(String testName, String errorMessage, Throwable exception) {
+        stats.failed.increment();
+    }
+
+    @Override
+    public void markTestSkipped(String testName, String reason) {
+        stats.skipped.increment();
+    }
+
+    @Override
+    public void addScreenshot(String screenshotPath, String description) {
+    }
+
+    @Override
+    public void finalizeReport() {
+        String summary = buildSummary();
+        logger.logInfo("\n" + summary);
+        try {
+            Path path = Paths.get(REPORT_PATH);
+            Files.createDirectories(path.getParent());
+            Files.write(path, summary.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.logError("Failed to write summary report to: " + REPORT_PATH, e);
+        }
+    }
+
+    @Override
+    public String getReportPath() {
+        return REPORT_PATH;
+    }
+
+    /**
+     * Render suite and per-endpoint tables for everything recorded so far
+     */
+    static String buildSummary() {
+        StringBuilder out = new StringBuilder();
+        out.append("RUN SUMMARY (").append(RUN_TIMESTAMP).append(")\n\n");
+
+        out.append(String.format("%-50s %8s %8s %8s%n", "Suite", "Passed", "Failed", "Skipped"));
+        for (Map.Entry<String, SuiteStats> entry : new TreeMap<>(suiteStats).entrySet()) {
+            SuiteStats stats = entry.getValue();
+            out.append(String.format("%-50s %8d %8d %8d%n", entry.getKey(),
+                    stats.passed.sum(), stats.failed.sum(), stats.skipped.sum()));
+        }
+
+        for (Map.Entry<String, SuiteStats> suite : new TreeMap<>(suiteStats).entrySet()) {
+            out.append('\n').append(suite.getKey()).append('\n');
+            out.append(String.format("%-60s %8s %8s %7s %8s %8s %8s %8s %8s %6s %6s %6s %6s%n",
+                    "Endpoint", "Count", "Errors", "Err%", "Avg(ms)", "p50", "p90", "p99", "Max",
+                    "2xx", "4xx", "5xx", "NoResp"));
+            for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(suite.getValue().endpoints).entrySet()) {
+                EndpointStats stats = entry.getValue();
+                long count = stats.count.sum();
+                long errors = stats.errors.sum();
+                out.append(String.format("%-60s %8d %8d %6.2f%% %8d %8d %8d %8d %8d %6d %6d %6d %6d%n",
+                        entry.getKey(), count, errors,
+                        count == 0 ? 0.0 : errors * 100.0 / count,
+                        count == 0 ? 0 : stats.totalTimeMs.sum() / count,
+                        stats.percentile(0.50), stats.percentile(0.90), stats.percentile(0.99),
+                        stats.maxTimeMs.get(),
+                        stats.statusClasses.get(2), stats.statusClasses.get(4), stats.statusClasses.get(5),
+                        stats.statusClasses.get(STATUS_NO_RESPONSE)));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Per-suite test outcome counters and endpoint statistics
+     */
+    private static class SuiteStats {
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Per-endpoint counters with a fixed-bucket latency histogram
+     */
+    private static class EndpointStats {
+        // Bucket upper bounds in ms - percentiles are reported as the upper bound of the matching bucket
+        private static final long[] BUCKETS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, Long.MAX_VALUE};
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalTimeMs = new LongAdder();
+        private final AtomicLong maxTimeMs = new AtomicLong();
+        private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKETS.length);
+        private final AtomicLongArray statusClasses = new AtomicLongArray(6);
+
+        private void record(int statusCode, long responseTimeMs) {
+            count.increment();
+            totalTimeMs.add(responseTimeMs);
+            if (statusCode < 200 || statusCode >= 400) {
+                errors.increment();
+            }
+            // Index 1-5 is the status class (2 = 2xx); index 0 counts calls without a response
+            int statusClass = statusCode / 100;
+            if (statusClass >= 0 && statusClass <= 5) {
+                statusClasses.incrementAndGet(statusClass);
+            }
+            maxTimeMs.accumulateAndGet(responseTimeMs, Math::max);
+            for (int i = 0; i < BUCKETS.length; i++) {
+                if (responseTimeMs <= BUCKETS[i]) {
+                    bucketCounts.incrementAndGet(i);
+                    break;
+                }
+            }
+        }
+
+        private long percentile(double quantile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                total += bucketCounts.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                seen += bucketCounts.get(i);
+                if (seen >= rank) {
+                    return BUCKETS[i] == Long.MAX_VALUE ? maxTimeMs.get() : Math.min(BUCKETS[i], maxTimeMs.get());
+                }
+            }
+            return maxTimeMs.get();
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package com.automation.framework.shared.data;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.DataProviderInterface;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IndexedTestDataStore serves random access by key over a large JSONL data file without loading it into heap
+ * A compact index (64-bit key hash, byte offset, length per record) is built once and persisted under
+ * test.data.index.dir (default target/test-data-index, empty = next to the data file as &lt;file&gt;.idx);
+ * it is rebuilt when the data file's size or modification time changes.
+ * Records are read from a read-only memory mapping and only the requested record is parsed, so several
+ * JVMs on one host share the OS page cache instead of each holding its own copy.
+ */
+public class IndexedTestDataStore implements DataProviderInterface {
+    private static final LoggingInterface logger = new ApiLogger(IndexedTestDataStore.class);
+
+    public static final String INDEX_SUFFIX = ".idx";
+
+    // Configuration key for where persisted indexes are written
+    private static final String PROP_INDEX_DIR = "test.data.index.dir";
+    private static final String DEFAULT_INDEX_DIR = "target/test-data-index";
+
+    private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    private static final int INDEX_MAGIC = 0x54444958; // "TDIX"
+    private static final int INDEX_VERSION = 1;
+    // Mapping segment size - files beyond 2 GB are mapped in several segments
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final String keyField;
+    private final Path indexDirectory;
+    private final ObjectMapper objectMapper;
+    private volatile Index index;
+
+    public IndexedTestDataStore() {
+        this(StreamingTestDataProvider.DEFAULT_KEY_FIELD);
+    }
+
+    public IndexedTestDataStore(String keyField) {
+        this(keyField, configuredIndexDirectory());
+    }
+
+    /**
+     * Store persisting its indexes in indexDirectory, or next to the data file when null
+     */
+    public IndexedTestDataStore(String keyField, Path indexDirectory) {
+        this.keyField = keyField;
+        this.indexDirectory = indexDirectory;
+        this.objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Override
+    public void loadTestData(String filePath) {
+        Path dataFile = Paths.get(filePath);
+        try {
+            long size = Files.size(dataFile);
+            long modified = Files.getLastModifiedTime(dataFile).toMillis();
+            Path indexFile = indexFileFor(dataFile);
+
+            RecordIndex recordIndex = readIndex(indexFile, size, modified);
+            if (recordIndex == null) {
+                long start = System.currentTimeMillis();
+                recordIndex = buildIndex(dataFile);
+                writeIndex(indexFile, size, modified, recordIndex);
+                logger.logInfo("Indexed " + recordIndex.hashes.length + " records of " + filePath + " in "
+                               + (System.currentTimeMillis() - start) + " ms");
+            } else {
+                logger.logDebug("Loaded index of " + recordIndex.hashes.length + " records for " + filePath);
+            }
+            this.index = new Index(dataFile, mapSegments(dataFile, size), recordIndex);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load test data from: " + filePath, e);
+        }
+    }
+
+    @Override
+    public Object getTestData(String key) {
+        return findRecord(key);
+    }
+
+    /**
+     * Record for key bound to a model class, or null if the key is not in the file
+     */
+    public <T> T getTestData(String key, Class<T> type) {
+        Map<String, Object> record = findRecord(key);
+        if (record == null || type == Map.class) {
+            return type.cast(record);
+        }
+        return objectMapper.convertValue(record, type);
+    }
+
+    /**
+     * Parsed record for key - binary search on the hash, then key comparison of the candidates
+     */
+    private Map<String, Object> findRecord(String key) {
+        Index current = requireIndex();
+        RecordIndex records = current.records;
+        long hash = hash(key);
+        int slot = Arrays.binarySearch(records.hashes, hash);
+        if (slot < 0) {
+            return null;
+        }
+        // Equal hashes are adjacent - step back to the first, then verify the key of each candidate
+        while (slot > 0 && records.hashes[slot - 1] == hash) {
+            slot--;
+        }
+        try {
+            for (; slot < records.hashes.length && records.hashes[slot] == hash; slot++) {
+                Map<String, Object> candidate = readRecord(current, slot);
+                Object candidateKey = candidate.get(keyField);
+                if (candidateKey != null && key.equals(candidateKey.toString())) {
+                    return candidate;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read record '" + key + "' from: " + current.dataFile, e);
+        }
+        return null;
+    }
+
+    public boolean containsKey(String key) {
+        return getTestData(key) != null;
+    }
+
+    /**
+     * Number of indexed records
+     */
+    public int size() {
+        return requireIndex().records.hashes.length;
+    }
+
+    /**
+     * Up to count records starting at index position fromIndex, bound to a model class
+     * Lets callers walk the whole file in chunks without materializing it. Index order is key-hash order,
+     * not file order - stable for a given file, but records come out shuffled relative to the file.
+     */
+    public <T> List<T> getRecords(int fromIndex, int count, Class<T> type) {
+        Index current = requireIndex();
+        RecordIndex records = current.records;
+        int end = (int) Math.min((long) fromIndex + count, records.hashes.length);
+        List<T> batch = new ArrayList<>(Math.max(0, end - fromIndex));
+        try {
+            for (int i = fromIndex; i < end; i++) {
+                Map<String, Object> record = readRecord(current, i);
+                batch.add(type == Map.class ? type.cast(record) : objectMapper.convertValue(record, type));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read test data from: " + current.dataFile, e);
+        }
+        return batch;
+    }
+
+    public String getKeyField() {
+        return keyField;
+    }
+
+    /**
+     * Materializes every record keyed by the key field - small files only
+     */
+    @Override
+    public Map<String, Object> getAllTestData() {
+        Index current = requireIndex();
+        RecordIndex records = current.records;
+        Map<String, Object> data = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < records.hashes.length; i++) {
+                Map<String, Object> record = readRecord(current, i);
+                data.put(String.valueOf(record.get(keyField)), record);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read test data from: " + current.dataFile, e);
+        }
+        logger.logWarning("Materialized " + data.size() + " indexed records from " + current.dataFile);
+        return data;
+    }
+
+    @Override
+    public Map<String, Object> getTestDataForCase(String testCaseName) {
+        Map<String, Object> caseData = findRecord(testCaseName);
+        return caseData != null ? caseData : new HashMap<>();
+    }
+
+    private Map<String, Object> readRecord(Index current, int slot) throws IOException {
+        return objectMapper.readValue(current.read(current.records.offsets[slot], current.records.lengths[slot]), RECORD_TYPE);
+    }
+
+    /**
+     * Index file of a data file - named after the file plus a hash of its absolute path in the index directory,
+     * so equally named files from different folders do not share an index
+     */
+    private Path indexFileFor(Path dataFile) {
+        if (indexDirectory == null) {
+            return dataFile.resolveSibling(dataFile.getFileName() + INDEX_SUFFIX);
+        }
+        String pathHash = Long.toHexString(hash(dataFile.toAbsolutePath().normalize().toString()));
+        return indexDirectory.resolve(dataFile.getFileName() + "." + pathHash + INDEX_SUFFIX);
+    }
+
+    private static Path configuredIndexDirectory() {
+        ApiConfig apiConfig = new ApiConfig();
+        String directory = System.getProperty(PROP_INDEX_DIR, apiConfig.getProperty(PROP_INDEX_DIR, DEFAULT_INDEX_DIR)).trim();
+        return directory.isEmpty() ? null : Paths.get(directory);
+    }
+
+    private Index requireIndex() {
+        Index current = index;
+        if (current == null) {
+            throw new IllegalStateException("No data file loaded - call loadTestData(filePath) first");
+        }
+        return current;
+    }
+
+    /**
+     * One pass over the file with the streaming parser - each top-level object's key and byte range
+     * Only the key field is read; all other values are skipped without building them.
+     */
+    private RecordIndex buildIndex(Path dataFile) throws IOException {
+        int capacity = 1024;
+        long[] hashes = new long[capacity];
+        long[] offsets = new long[capacity];
+        int[] lengths = new int[capacity];
+        int count = 0;
+
+        JsonFactory jsonFactory = objectMapper.getFactory();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(dataFile), 1 << 16);
+             JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("Expected one JSON object per record at byte "
+                                          + parser.getTokenLocation().getByteOffset());
+                }
+                long start = parser.getTokenLocation().getByteOffset();
+                String key = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if (key == null && keyField.equals(field) && value.isScalarValue()) {
+                        key = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                long end = parser.getCurrentLocation().getByteOffset();
+                if (key == null) {
+                    throw new IOException("Record at byte " + start + " has no '" + keyField + "' field");
+                }
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new IOException("Record '" + key + "' is larger than 2 GB");
+                }
+                if (count == capacity) {
+                    capacity *= 2;
+                    hashes = Arrays.copyOf(hashes, capacity);
+                    offsets = Arrays.copyOf(offsets, capacity);
+                    lengths = Arrays.copyOf(lengths, capacity);
+                }
+                hashes[count] = hash(key);
+                offsets[count] = start;
+                lengths[count] = (int) (end - start);
+                count++;
+            }
+        }
+        return RecordIndex.sortedByHash(Arrays.copyOf(hashes, count), Arrays.copyOf(offsets, count),
+                Arrays.copyOf(lengths, count));
+    }
+
+    /**
+     * Load a persisted index if it was built for this exact data file and key field, else null
+     */
+    private RecordIndex readIndex(Path indexFile, long dataSize, long dataModified) {
+        if (!Files.isReadable(indexFile)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile), 1 << 16))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION || in.readLong() != dataSize
+                || in.readLong() != dataModified || !keyField.equals(in.readUTF())) {
+                logger.logInfo("Index " + indexFile + " is stale, rebuilding");
+                return null;
+            }
+            int count = in.readInt();
+            long[] hashes = new long[count];
+            long[] offsets = new long[count];
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                hashes[i] = in.readLong();
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+            }
+            return new RecordIndex(hashes, offsets, lengths);
+        } catch (IOException e) {
+            logger.logWarning("Could not read index " + indexFile + ", rebuilding: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Persist the index through a temp file and atomic move - concurrent JVMs never see a partial index
+     */
+    private void writeIndex(Path indexFile, long dataSize, long dataModified, RecordIndex records) {
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        try {
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), 1 << 16))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_VERSION);
+                out.writeLong(dataSize);
+                out.writeLong(dataModified);
+                out.writeUTF(keyField);
+                out.writeInt(records.hashes.length);
+                for (int i = 0; i < records.hashes.length; i++) {
+                    out.writeLong(records.hashes[i]);
+                    out.writeLong(records.offsets[i]);
+                    out.writeInt(records.lengths[i]);
+                }
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Index stays usable in memory; the next run simply rebuilds it
+            logger.logWarning("Could not persist index " + indexFile + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+                // best effort
+            }
+        }
+    }
+
+    private static MappedByteBuffer[] mapSegments(Path dataFile, long size) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            int segmentCount = (int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return segments;
+        }
+    }
+
+    /**
+     * FNV-1a 64 over the key's UTF-8 bytes - collisions are resolved by comparing the parsed key
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Parallel arrays sorted by hash - about 20 bytes per record
+     */
+    private static final class RecordIndex {
+        private final long[] hashes;
+        private final long[] offsets;
+        private final int[] lengths;
+
+        private RecordIndex(long[] hashes, long[] offsets, int[] lengths) {
+            this.hashes = hashes;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+
+        /**
+         * Sort the parallel arrays in place by (hash, offset) - ties keep file order so duplicate keys
+         * resolve to the first record; no boxing, so millions of records sort without extra heap
+         */
+        private static RecordIndex sortedByHash(long[] hashes, long[] offsets, int[] lengths) {
+            sort(hashes, offsets, lengths, 0, hashes.length - 1);
+            return new RecordIndex(hashes, offsets, lengths);
+        }
+
+        private static void sort(long[] hashes, long[] offsets, int[] lengths, int low, int high) {
+            while (low < high) {
+                if (high - low < 16) {
+                    for (int i = low + 1; i <= high; i++) {
+                        for (int j = i; j > low && less(hashes, offsets, j, j - 1); j--) {
+                            swap(hashes, offsets, lengths, j, j - 1);
+                        }
+                    }
+                    return;
+                }
+                swap(hashes, offsets, lengths, low + (high - low) / 2, high);
+                int store = low;
+                for (int i = low; i < high; i++) {
+                    if (less(hashes, offsets, i, high)) {
+                        swap(hashes, offsets, lengths, i, store++);
+                    }
+                }
+                swap(hashes, offsets, lengths, store, high);
+                // Recurse into the smaller half, loop on the larger one to bound stack depth
+                if (store - low < high - store) {
+                    sort(hashes, offsets, lengths, low, store - 1);
+                    low = store + 1;
+                } else {
+                    sort(hashes, offsets, lengths, store + 1, high);
+                    high = store - 1;
+                }
+            }
+        }
+
+        private static boolean less(long[] hashes, long[] offsets, int a, int b) {
+            return hashes[a] != hashes[b] ? hashes[a] < hashes[b] : offsets[a] < offsets[b];
+        }
+
+        private static void swap(long[] hashes, long[] offsets, int[] lengths, int a, int b) {
+            long hash = hashes[a];
+            hashes[a] = hashes[b];
+            hashes[b] = hash;
+            long offset = offsets[a];
+            offsets[a] = offsets[b];
+            offsets[b] = offset;
+            int length = lengths[a];
+            lengths[a] = lengths[b];
+            lengths[b] = length;
+        }
+    }
+
+    /**
+     * Loaded data file - immutable, replaced as a whole by loadTestData
+     */
+    private static final class Index {
+        private final Path dataFile;
+        private final MappedByteBuffer[] segments;
+        private final RecordIndex records;
+
+        private Index(Path dataFile, MappedByteBuffer[] segments, RecordIndex records) {
+            this.dataFile = dataFile;
+            this.segments = segments;
+            this.records = records;
+        }
+
+        /**
+         * Copy a record's bytes out of the mapping (may span two segments)
+         * Works on duplicates so concurrent readers never share a buffer position.
+         */
+        private byte[] read(long offset, int length) {
+            byte[] bytes = new byte[length];
+            int copied = 0;
+            while (copied < length) {
+                long position = offset + copied;
+                MappedByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)];
+                int segmentOffset = (int) (position % SEGMENT_SIZE);
+                int chunk = Math.min(length - copied, segment.capacity() - segmentOffset);
+                ByteBuffer view = segment.duplicate();
+                view.position(segmentOffset);
+                view.get(bytes, copied, chunk);
+                copied += chunk;
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.automation.framework.shared.data;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * Forward-only cursor over the records of a data file, bound to a model type
+ * Safe to share between threads: every record is handed out exactly once.
+ */
+public interface RecordCursor<T> extends Closeable {
+
+    /**
+     * Next record, or null when the file is exhausted
+     */
+    T next();
+
+    /**
+     * Up to maxRecords next records in one call (fewer at end of file, empty when exhausted)
+     */
+    List<T> nextBatch(int maxRecords);
+
+    /**
+     * Number of records handed out so far
+     */
+    long getPosition();
+
+    /**
+     * Release the underlying file - no exception, cursors are closed from finally blocks
+     */
+    @Override
+    void close();
+}
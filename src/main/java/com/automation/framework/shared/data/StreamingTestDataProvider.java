@@ -0,0 +1,407 @@
+package com.automation.framework.shared.data;
+
+import com.automation.framework.core.interfaces.DataProviderInterface;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StreamingTestDataProvider reads large JSONL / CSV datasets record by record instead of loading them into heap
+ * loadTestData only registers the file; records are parsed lazily through a RecordCursor and bound directly
+ * to model classes (e.g. PaymentFormRequest). CSV headers with dots (userDetail.email) map to nested fields.
+ * Key lookups scan the file for the record whose key field matches - use the indexed store for random access.
+ */
+public class StreamingTestDataProvider implements DataProviderInterface {
+    private static final LoggingInterface logger = new ApiLogger(StreamingTestDataProvider.class);
+
+    public static final String DEFAULT_KEY_FIELD = "id";
+
+    private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    /**
+     * Supported record formats
+     */
+    public enum Format {
+        JSONL, CSV
+    }
+
+    private final Format format;
+    private final String keyField;
+    private final ObjectMapper objectMapper;
+    private volatile Path filePath;
+
+    public StreamingTestDataProvider(Format format) {
+        this(format, DEFAULT_KEY_FIELD);
+    }
+
+    public StreamingTestDataProvider(Format format, String keyField) {
+        this.format = format;
+        this.keyField = keyField;
+        // Data files may carry columns (like the key) that the target model does not have
+        this.objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Override
+    public void loadTestData(String filePath) {
+        Path path = Paths.get(filePath);
+        if (!Files.isReadable(path)) {
+            throw new RuntimeException("Failed to load test data from: " + filePath + " (file not readable)");
+        }
+        this.filePath = path;
+        logger.logDebug("Registered " + format + " data file for streaming: " + filePath);
+    }
+
+    /**
+     * Open a cursor over all records bound to the given type - close it when done
+     */
+    public <T> RecordCursor<T> openCursor(Class<T> type) {
+        return openCursor(objectMapper.constructType(type));
+    }
+
+    /**
+     * Open a cursor over all records bound to a generic type, e.g. Map&lt;String, Object&gt;
+     */
+    public <T> RecordCursor<T> openCursor(TypeReference<T> type) {
+        return openCursor(objectMapper.getTypeFactory().constructType(type));
+    }
+
+    private <T> RecordCursor<T> openCursor(JavaType type) {
+        Path path = requireFile();
+        BufferedReader reader = null;
+        try {
+            reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            return format == Format.JSONL
+                    ? new JsonlCursor<>(reader, objectMapper, type)
+                    : new CsvCursor<>(reader, objectMapper, type);
+        } catch (IOException e) {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+            throw new RuntimeException("Failed to open test data file: " + path, e);
+        }
+    }
+
+    @Override
+    public Object getTestData(String key) {
+        return findRecord(key);
+    }
+
+    /**
+     * Materializes the whole file keyed by the key field (record number when missing) - small files only
+     */
+    @Override
+    public Map<String, Object> getAllTestData() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        try (RecordCursor<Map<String, Object>> cursor = openCursor(RECORD_TYPE)) {
+            Map<String, Object> record;
+            while ((record = cursor.next()) != null) {
+                Object recordKey = record.get(keyField);
+                data.put(recordKey != null ? recordKey.toString() : String.valueOf(cursor.getPosition() - 1), record);
+            }
+        }
+        logger.logWarning("Materialized " + data.size() + " streamed records from " + filePath);
+        return data;
+    }
+
+    @Override
+    public Map<String, Object> getTestDataForCase(String testCaseName) {
+        Map<String, Object> caseData = findRecord(testCaseName);
+        return caseData != null ? caseData : new HashMap<>();
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public String getKeyField() {
+        return keyField;
+    }
+
+    /**
+     * First record whose key field matches, scanning from the start of the file
+     */
+    private Map<String, Object> findRecord(String key) {
+        try (RecordCursor<Map<String, Object>> cursor = openCursor(RECORD_TYPE)) {
+            Map<String, Object> record;
+            while ((record = cursor.next()) != null) {
+                Object recordKey = record.get(keyField);
+                if (recordKey != null && key.equals(recordKey.toString())) {
+                    return record;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Path requireFile() {
+        Path path = filePath;
+        if (path == null) {
+            throw new IllegalStateException("No data file loaded - call loadTestData(filePath) first");
+        }
+        return path;
+    }
+
+    /**
+     * Serializes access to the single-threaded reader; only the raw record (a JSONL line or a CSV row)
+     * is read under the lock, binding to the model type runs on the calling thread.
+     */
+    private abstract static class SynchronizedCursor<R, T> implements RecordCursor<T> {
+        protected final ObjectMapper objectMapper;
+        protected final JavaType type;
+        private long position;
+        private boolean exhausted;
+
+        protected SynchronizedCursor(ObjectMapper objectMapper, JavaType type) {
+            this.objectMapper = objectMapper;
+            this.type = type;
+        }
+
+        protected abstract R readRaw() throws IOException;
+
+        protected abstract T bind(R raw) throws IOException;
+
+        protected abstract void closeSource() throws IOException;
+
+        @Override
+        public T next() {
+            R raw;
+            long recordNumber;
+            synchronized (this) {
+                raw = nextRaw();
+                recordNumber = position;
+            }
+            return raw != null ? bindRecord(raw, recordNumber) : null;
+        }
+
+        @Override
+        public List<T> nextBatch(int maxRecords) {
+            List<R> raws = new ArrayList<>(Math.min(maxRecords, 1024));
+            long firstRecord;
+            synchronized (this) {
+                firstRecord = position + 1;
+                R raw;
+                while (raws.size() < maxRecords && (raw = nextRaw()) != null) {
+                    raws.add(raw);
+                }
+            }
+            List<T> batch = new ArrayList<>(raws.size());
+            for (int i = 0; i < raws.size(); i++) {
+                batch.add(bindRecord(raws.get(i), firstRecord + i));
+                raws.set(i, null);
+            }
+            return batch;
+        }
+
+        @Override
+        public synchronized long getPosition() {
+            return position;
+        }
+
+        @Override
+        public synchronized void close() {
+            exhausted = true;
+            try {
+                closeSource();
+            } catch (IOException e) {
+                logger.logWarning("Error closing test data file: " + e.getMessage());
+            }
+        }
+
+        /**
+         * Next raw record or null when exhausted (caller holds the cursor lock)
+         */
+        private R nextRaw() {
+            if (exhausted) {
+                return null;
+            }
+            try {
+                R raw = readRaw();
+                if (raw == null) {
+                    exhausted = true;
+                    return null;
+                }
+                position++;
+                return raw;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read record " + (position + 1), e);
+            }
+        }
+
+        private T bindRecord(R raw, long recordNumber) {
+            try {
+                return bind(raw);
+            } catch (IOException | IllegalArgumentException e) {
+                throw new RuntimeException("Failed to bind record " + recordNumber + " to " + type, e);
+            }
+        }
+    }
+
+    /**
+     * One JSON value per line - blank lines are skipped
+     */
+    private static final class JsonlCursor<T> extends SynchronizedCursor<String, T> {
+        private final BufferedReader reader;
+
+        private JsonlCursor(BufferedReader reader, ObjectMapper objectMapper, JavaType type) {
+            super(objectMapper, type);
+            this.reader = reader;
+        }
+
+        @Override
+        protected String readRaw() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    return line;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        protected T bind(String line) throws IOException {
+            return objectMapper.readValue(line, type);
+        }
+
+        @Override
+        protected void closeSource() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row - quoted fields may contain commas, quotes ("") and line breaks
+     * Empty cells are left unset; dotted headers build nested objects before binding.
+     */
+    private static final class CsvCursor<T> extends SynchronizedCursor<List<String>, T> {
+        private final BufferedReader reader;
+        private final String[][] headerPaths;
+        private final StringBuilder field = new StringBuilder();
+        private final List<String> row = new ArrayList<>();
+
+        private CsvCursor(BufferedReader reader, ObjectMapper objectMapper, JavaType type) throws IOException {
+            super(objectMapper, type);
+            this.reader = reader;
+            List<String> header = readRow() ? new ArrayList<>(row) : new ArrayList<>();
+            this.headerPaths = new String[header.size()][];
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim();
+                // Strip a UTF-8 byte order mark left by spreadsheet exports
+                headerPaths[i] = (i == 0 && name.startsWith("\uFEFF") ? name.substring(1) : name).split("\\.");
+            }
+        }
+
+        @Override
+        protected List<String> readRaw() throws IOException {
+            while (readRow()) {
+                if (row.size() == 1 && row.get(0).isEmpty()) {
+                    continue; // blank line
+                }
+                return new ArrayList<>(row);
+            }
+            return null;
+        }
+
+        @Override
+        protected T bind(List<String> cells) {
+            ObjectNode record = objectMapper.createObjectNode();
+            for (int i = 0; i < headerPaths.length && i < cells.size(); i++) {
+                if (!cells.get(i).isEmpty()) {
+                    put(record, headerPaths[i], cells.get(i));
+                }
+            }
+            return objectMapper.convertValue(record, type);
+        }
+
+        @Override
+        protected void closeSource() throws IOException {
+            reader.close();
+        }
+
+        private static void put(ObjectNode record, String[] path, String value) {
+            ObjectNode target = record;
+            for (int i = 0; i < path.length - 1; i++) {
+                JsonNode child = target.get(path[i]);
+                if (child == null) {
+                    target = target.putObject(path[i]);
+                } else if (child.isObject()) {
+                    target = (ObjectNode) child;
+                } else {
+                    throw new IllegalArgumentException("CSV column conflicts with nested column: " + String.join(".", path));
+                }
+            }
+            target.put(path[path.length - 1], value);
+        }
+
+        /**
+         * Read the next row into row, false at end of file
+         */
+        private boolean readRow() throws IOException {
+            row.clear();
+            field.setLength(0);
+            boolean quoted = false;
+            boolean sawAny = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                sawAny = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    row.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    row.add(field.toString());
+                    return true;
+                } else {
+                    field.append((char) c);
+                }
+            }
+            if (!sawAny) {
+                return false;
+            }
+            row.add(field.toString());
+            return true;
+        }
+    }
+}
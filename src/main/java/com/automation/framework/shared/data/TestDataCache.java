@@ -0,0 +1,242 @@
+package com.automation.framework.shared.data;
+
+import com.automation.framework.core.config.ApiConfig;
+import com.automation.framework.core.interfaces.LoggingInterface;
+import com.automation.framework.core.logging.ApiLogger;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Process-wide cache of parsed JSON test data files, shared by all test classes
+ * Entries are keyed by absolute path and revalidated against the file's modification time and size,
+ * so an edited file is parsed again. Each file is parsed once even when requested concurrently, and the
+ * result is deeply immutable - tests get the same read-only view without copying.
+ * Files listed in test.data.prewarm.paths (files or directories of *.json) are parsed in the background
+ * at suite start.
+ */
+public class TestDataCache {
+    private static final LoggingInterface logger = new ApiLogger(TestDataCache.class);
+
+    // Configuration keys for background pre-warm
+    private static final String PROP_PREWARM_PATHS = "test.data.prewarm.paths";
+    private static final String PROP_PREWARM_THREADS = "test.data.prewarm.threads";
+
+    private static final TypeReference<Map<String, Object>> FILE_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
+    private static volatile TestDataCache instance;
+    private static final Object lock = new Object();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentHashMap<Path, CompletableFuture<CachedFile>> files = new ConcurrentHashMap<>();
+    private final AtomicBoolean prewarmStarted = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder parses = new LongAdder();
+
+    private TestDataCache() {
+    }
+
+    /**
+     * Get shared cache instance
+     */
+    public static TestDataCache getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new TestDataCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Parsed, read-only content of a JSON data file - parsed at most once per file version
+     */
+    public Map<String, Object> get(String filePath) {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        while (true) {
+            long modified;
+            long size;
+            try {
+                modified = Files.getLastModifiedTime(path).toMillis();
+                size = Files.size(path);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load test data from: " + filePath, e);
+            }
+
+            CompletableFuture<CachedFile> existing = files.get(path);
+            if (existing != null) {
+                CachedFile cached = await(existing);
+                if (cached != null && cached.modified == modified && cached.size == size) {
+                    hits.increment();
+                    return cached.data;
+                }
+            }
+
+            // Claim the parse - losers of the race wait for the winner's result on the next pass
+            CompletableFuture<CachedFile> parse = new CompletableFuture<>();
+            boolean claimed = existing == null ? files.putIfAbsent(path, parse) == null : files.replace(path, existing, parse);
+            if (!claimed) {
+                continue;
+            }
+            try {
+                Map<String, Object> data = immutableMap(objectMapper.readValue(path.toFile(), FILE_TYPE));
+                parses.increment();
+                CachedFile cached = new CachedFile(modified, size, data);
+                parse.complete(cached);
+                logger.logDebug("Parsed and cached test data file: " + path);
+                return cached.data;
+            } catch (IOException | RuntimeException e) {
+                files.remove(path, parse);
+                parse.completeExceptionally(e);
+                throw new RuntimeException("Failed to load test data from: " + filePath, e);
+            }
+        }
+    }
+
+    /**
+     * Parse the configured data files in the background - first call per run only
+     */
+    public void prewarmConfigured(ApiConfig apiConfig) {
+        String paths = System.getProperty(PROP_PREWARM_PATHS, apiConfig.getProperty(PROP_PREWARM_PATHS, ""));
+        if (paths.trim().isEmpty() || !prewarmStarted.compareAndSet(false, true)) {
+            return;
+        }
+        List<Path> dataFiles = new ArrayList<>();
+        for (String entry : paths.split(",")) {
+            if (!entry.trim().isEmpty()) {
+                dataFiles.addAll(listJsonFiles(Paths.get(entry.trim())));
+            }
+        }
+        if (dataFiles.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        int threads = Math.max(1, Math.min(apiConfig.getIntProperty(PROP_PREWARM_THREADS, 2), dataFiles.size()));
+        ExecutorService prewarmPool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "test-data-prewarm-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.currentTimeMillis();
+        CompletableFuture<?>[] tasks = dataFiles.stream()
+                .map(dataFile -> CompletableFuture.runAsync(() -> {
+                    try {
+                        get(dataFile.toString());
+                    } catch (RuntimeException e) {
+                        // The test that uses the file reports the real failure
+                        logger.logWarning("Test data pre-warm skipped " + dataFile + ": " + e.getMessage());
+                    }
+                }, prewarmPool))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).whenComplete((ignored, error) -> {
+            prewarmPool.shutdown();
+            logger.logInfo("Pre-warmed " + dataFiles.size() + " test data files in " + (System.currentTimeMillis() - start) + " ms");
+        });
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getParseCount() {
+        return parses.sum();
+    }
+
+    /**
+     * Drop all cached files (e.g. between independent suites in one JVM)
+     */
+    public void clear() {
+        files.clear();
+    }
+
+    private static List<Path> listJsonFiles(Path path) {
+        if (!Files.isDirectory(path)) {
+            return Files.isRegularFile(path) ? Collections.singletonList(path) : Collections.emptyList();
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.logWarning("Could not list test data directory " + path + ": " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Result of a finished parse, or null if it failed (the caller then parses again)
+     */
+    private static CachedFile await(CompletableFuture<CachedFile> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for test data", e);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Deep read-only copy of parsed JSON (maps keep their key order)
+     */
+    private static Object immutableCopy(Object value) {
+        if (value instanceof Map) {
+            return immutableMap((Map<?, ?>) value);
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                copy.add(immutableCopy(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    private static Map<String, Object> immutableMap(Map<?, ?> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(String.valueOf(entry.getKey()), immutableCopy(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * One parsed file version
+     */
+    private static final class CachedFile {
+        private final long modified;
+        private final long size;
+        private final Map<String, Object> data;
+
+        private CachedFile(long modified, long size, Map<String, Object> data) {
+            this.modified = modified;
+            this.size = size;
+            this.data = data;
+        }
+    }
+}
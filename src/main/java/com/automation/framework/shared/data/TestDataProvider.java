@@ -1,20 +1,19 @@
 package com.automation.framework.shared.data;
 
 import com.automation.framework.core.interfaces.DataProviderInterface;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * JSON test data keyed by test case - files are parsed once per run through TestDataCache
+ * Case data is a read-only view shared with other test classes; copy it before modifying.
+ */
 public class TestDataProvider implements DataProviderInterface {
 
     private Map<String, Object> testData;
-    private ObjectMapper objectMapper;
 
     public TestDataProvider() {
         this.testData = new HashMap<>();
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
@@ -38,12 +37,6 @@ public class TestDataProvider implements DataProviderInterface {
 
     @Override
     public void loadTestData(String filePath) {
-        try {
-            File file = new File(filePath);
-            Map<String, Object> data = objectMapper.readValue(file, Map.class);
-            testData.putAll(data);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load test data from: " + filePath, e);
-        }
+        testData.putAll(TestDataCache.getInstance().get(filePath));
     }
 }
\ No newline at end of file
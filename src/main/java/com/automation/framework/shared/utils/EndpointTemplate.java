@@ -0,0 +1,50 @@
+package com.automation.framework.shared.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Collapses concrete endpoint paths into templates for aggregation
+ * e.g. /payments/v4/transaction/01JXT2C7G3NX5T?x=1 becomes /payments/v4/transaction/{id}
+ */
+public final class EndpointTemplate {
+
+    private static final Pattern NUMERIC = Pattern.compile("\\d+");
+    private static final Pattern UUID_LIKE = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final int MIN_ID_LENGTH = 8;
+
+    private EndpointTemplate() {
+    }
+
+    /**
+     * Normalize an endpoint by dropping the query string and replacing id-like path segments with {id}
+     */
+    public static String of(String endpoint) {
+        if (endpoint == null || endpoint.isEmpty()) {
+            return "/";
+        }
+        int queryStart = endpoint.indexOf('?');
+        String path = queryStart >= 0 ? endpoint.substring(0, queryStart) : endpoint;
+
+        String[] segments = path.split("/", -1);
+        StringBuilder template = new StringBuilder(path.length());
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                template.append('/');
+            }
+            template.append(isIdSegment(segments[i]) ? "{id}" : segments[i]);
+        }
+        return template.toString();
+    }
+
+    private static boolean isIdSegment(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        if (NUMERIC.matcher(segment).matches() || UUID_LIKE.matcher(segment).matches()) {
+            return true;
+        }
+        // Long tokens mixing letters and digits (trip ids, transaction ids)
+        return segment.length() >= MIN_ID_LENGTH && segment.chars().anyMatch(Character::isDigit)
+                && segment.chars().anyMatch(Character::isLetter);
+    }
+}
@@ -0,0 +1,353 @@
+package com.automation.framework.shared.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiled JSON body template - parsed once, rendered straight into a reusable per-thread byte buffer
+ * Placeholders live inside JSON strings:
+ *   #{randomId}           run-unique id from UniqueIdGenerator
+ *   #{seq}                per-template counter starting at 1
+ *   #{now}                ISO-8601 instant
+ *   #{userDetail.email}   field of the data record (dotted path)
+ * A string that is exactly one field reference ("#{version}") is replaced by the field's JSON value,
+ * so numbers, booleans and objects keep their type; placeholders inside longer strings are escaped text.
+ */
+public final class PayloadTemplate {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ThreadLocal<ByteSink> buffers = ThreadLocal.withInitial(() -> new ByteSink(1024));
+
+    private static final String RANDOM_ID = "randomId";
+    private static final String SEQ = "seq";
+    private static final String NOW = "now";
+
+    private final Segment[] segments;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private PayloadTemplate(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Compile a JSON template; the text must be valid JSON (placeholders sit inside strings)
+     */
+    public static PayloadTemplate compile(String jsonTemplate) {
+        try {
+            objectMapper.readTree(jsonTemplate);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Payload template is not valid JSON: " + e.getMessage(), e);
+        }
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < jsonTemplate.length()) {
+            int start = jsonTemplate.indexOf("#{", index);
+            int end = start >= 0 ? jsonTemplate.indexOf('}', start + 2) : -1;
+            if (start < 0 || end < 0) {
+                literal.append(jsonTemplate, index, jsonTemplate.length());
+                break;
+            }
+            String name = jsonTemplate.substring(start + 2, end).trim();
+            boolean wholeValue = !isBuiltIn(name) && start > 0 && jsonTemplate.charAt(start - 1) == '"'
+                                 && end + 1 < jsonTemplate.length() && jsonTemplate.charAt(end + 1) == '"';
+            if (wholeValue) {
+                // Drop the surrounding quotes - the field's JSON value replaces the whole string
+                literal.append(jsonTemplate, index, start - 1);
+                index = end + 2;
+            } else {
+                literal.append(jsonTemplate, index, start);
+                index = end + 1;
+            }
+            if (literal.length() > 0) {
+                segments.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+            segments.add(placeholder(name, wholeValue));
+        }
+        if (literal.length() > 0) {
+            segments.add(new Literal(literal.toString()));
+        }
+        return new PayloadTemplate(segments.toArray(new Segment[0]));
+    }
+
+    /**
+     * Compile a template from a parsed tree (e.g. a test data node) - serialized once here
+     */
+    public static PayloadTemplate compile(Object templateTree) {
+        try {
+            return compile(objectMapper.writeValueAsString(templateTree));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Payload template could not be serialized: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Render into the calling thread's buffer and return a read-only view of it
+     * The view is only valid until the next render on the same thread.
+     */
+    public ByteBuffer renderToBuffer(Object record) {
+        ByteSink sink = buffers.get();
+        sink.reset();
+        renderInto(record, sink);
+        return ByteBuffer.wrap(sink.bytes, 0, sink.size).asReadOnlyBuffer();
+    }
+
+    /**
+     * Render and write the body to a stream (e.g. a socket or request entity)
+     */
+    public int renderTo(Object record, OutputStream out) throws IOException {
+        ByteSink sink = buffers.get();
+        sink.reset();
+        renderInto(record, sink);
+        out.write(sink.bytes, 0, sink.size);
+        return sink.size;
+    }
+
+    /**
+     * Render as a String for APIs that take String bodies
+     */
+    public String render(Object record) {
+        ByteSink sink = buffers.get();
+        sink.reset();
+        renderInto(record, sink);
+        return new String(sink.bytes, 0, sink.size, StandardCharsets.UTF_8);
+    }
+
+    private void renderInto(Object record, ByteSink sink) {
+        for (Segment segment : segments) {
+            segment.write(this, record, sink);
+        }
+    }
+
+    private static boolean isBuiltIn(String name) {
+        return RANDOM_ID.equals(name) || SEQ.equals(name) || NOW.equals(name);
+    }
+
+    private static Segment placeholder(String name, boolean wholeValue) {
+        switch (name) {
+            case RANDOM_ID:
+                return (template, record, sink) -> sink.writeAscii(UniqueIdGenerator.getInstance().nextId());
+            case SEQ:
+                return (template, record, sink) -> sink.writeAscii(Long.toString(template.sequence.incrementAndGet()));
+            case NOW:
+                return (template, record, sink) -> sink.writeAscii(Instant.now().toString());
+            default:
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Empty placeholder #{} in payload template");
+                }
+                return new FieldReference(name.split("\\."), wholeValue);
+        }
+    }
+
+    /**
+     * One piece of the compiled template
+     */
+    private interface Segment {
+        void write(PayloadTemplate template, Object record, ByteSink sink);
+    }
+
+    /**
+     * Template text between placeholders, encoded once
+     */
+    private static final class Literal implements Segment {
+        private final byte[] bytes;
+
+        private Literal(String text) {
+            this.bytes = text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(PayloadTemplate template, Object record, ByteSink sink) {
+            sink.write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Value from the data record (Map or JsonNode), looked up by a pre-split dotted path
+     */
+    private static final class FieldReference implements Segment {
+        private final String[] path;
+        private final boolean wholeValue;
+
+        private FieldReference(String[] path, boolean wholeValue) {
+            this.path = path;
+            this.wholeValue = wholeValue;
+        }
+
+        @Override
+        public void write(PayloadTemplate template, Object record, ByteSink sink) {
+            Object value = record;
+            for (String field : path) {
+                if (value instanceof Map) {
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    if (!map.containsKey(field)) {
+                        throw missing();
+                    }
+                    value = map.get(field);
+                } else if (value instanceof JsonNode) {
+                    JsonNode node = ((JsonNode) value).get(field);
+                    if (node == null) {
+                        throw missing();
+                    }
+                    value = node.isNull() ? null : node;
+                } else {
+                    throw missing();
+                }
+            }
+
+            if (value instanceof JsonNode && ((JsonNode) value).isValueNode()) {
+                JsonNode node = (JsonNode) value;
+                value = node.isTextual() ? node.textValue() : node.isNumber() ? node.numberValue() : node.booleanValue();
+            }
+            if (!wholeValue) {
+                sink.writeEscaped(value == null ? "" : value.toString());
+            } else if (value == null) {
+                sink.writeAscii("null");
+            } else if (value instanceof String) {
+                sink.write('"');
+                sink.writeEscaped((String) value);
+                sink.write('"');
+            } else if (value instanceof Number || value instanceof Boolean) {
+                sink.writeAscii(value.toString());
+            } else {
+                try {
+                    objectMapper.writeValue(sink, value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to render field " + String.join(".", path), e);
+                }
+            }
+        }
+
+        private IllegalArgumentException missing() {
+            return new IllegalArgumentException("Payload template field not found in data record: " + String.join(".", path));
+        }
+    }
+
+    /**
+     * Growable byte buffer reused per thread - writes UTF-8 with JSON string escaping, no intermediate Strings
+     */
+    private static final class ByteSink extends OutputStream {
+        private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+        private byte[] bytes;
+        private int size;
+
+        private ByteSink(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void reset() {
+            size = 0;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(source, offset, bytes, size, length);
+            size += length;
+        }
+
+        private void writeAscii(String text) {
+            ensureCapacity(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                bytes[size++] = (byte) text.charAt(i);
+            }
+        }
+
+        /**
+         * Write a string's content as the inside of a JSON string literal
+         */
+        private void writeEscaped(String text) {
+            ensureCapacity(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    write('\\');
+                    write(c);
+                } else if (c < 0x20) {
+                    writeControl(c);
+                } else if (c < 0x80) {
+                    write(c);
+                } else if (c < 0x800) {
+                    write(0xc0 | (c >> 6));
+                    write(0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                           && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    write(0xf0 | (codePoint >> 18));
+                    write(0x80 | ((codePoint >> 12) & 0x3f));
+                    write(0x80 | ((codePoint >> 6) & 0x3f));
+                    write(0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    // Lone surrogate has no UTF-8 form - keep it as a JSON escape
+                    writeUnicodeEscape(c);
+                } else {
+                    write(0xe0 | (c >> 12));
+                    write(0x80 | ((c >> 6) & 0x3f));
+                    write(0x80 | (c & 0x3f));
+                }
+            }
+        }
+
+        private void writeControl(char c) {
+            write('\\');
+            switch (c) {
+                case '\n':
+                    write('n');
+                    break;
+                case '\r':
+                    write('r');
+                    break;
+                case '\t':
+                    write('t');
+                    break;
+                case '\b':
+                    write('b');
+                    break;
+                case '\f':
+                    write('f');
+                    break;
+                default:
+                    write('u');
+                    write('0');
+                    write('0');
+                    write(HEX[c >> 4]);
+                    write(HEX[c & 0xf]);
+            }
+        }
+
+        private void writeUnicodeEscape(char c) {
+            write('\\');
+            write('u');
+            write(HEX[c >> 12]);
+            write(HEX[(c >> 8) & 0xf]);
+            write(HEX[(c >> 4) & 0xf]);
+            write(HEX[c & 0xf]);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.automation.framework.shared.utils;
+
+import com.automation.framework.core.config.ApiConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free unique ids for productTransactionId and similar fields - replaces UUID.substring(0, 8)
+ * Strategies (id.generator.strategy):
+ *   sequence      run prefix + thread slot + per-thread counter, e.g. T3KQ1ZK3F90001000007 (no shared state per call)
+ *   time_ordered  millisecond timestamp with a 12-bit sub-ms counter, sortable, then the run prefix
+ *   seeded        bijective mix of a run counter with id.seed - the same seed replays the same id sequence
+ * Ids are unique within a run for every strategy; the run prefix separates runs. By default it is the run
+ * start time in base36 seconds plus 4 random base36 characters, so two runs only collide if they start in
+ * the same second and draw the same ~20 random bits. An id.run.prefix set by hand must be unique per run,
+ * otherwise the sequence strategy repeats the previous run's ids.
+ */
+public final class UniqueIdGenerator {
+
+    // Configuration keys for id generation
+    private static final String PROP_STRATEGY = "id.generator.strategy";
+    private static final String PROP_RUN_PREFIX = "id.run.prefix";
+    private static final String PROP_SEED = "id.seed";
+
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final int RUN_PREFIX_RANDOM_LENGTH = 4;
+    private static final int THREAD_SLOT_LENGTH = 4;
+    private static final int MAX_THREAD_SLOTS = 36 * 36 * 36 * 36;
+    private static final int SEQUENCE_MIN_LENGTH = 6;
+    private static final int TIME_ORDERED_LENGTH = 11;
+    private static final int SEEDED_LENGTH = 13;
+    private static final int SUB_MILLIS_BITS = 12;
+
+    /**
+     * How ids are formed
+     */
+    public enum Strategy {
+        SEQUENCE, TIME_ORDERED, SEEDED
+    }
+
+    private static volatile UniqueIdGenerator instance;
+    private static final Object lock = new Object();
+
+    private final Strategy strategy;
+    private final String runPrefix;
+    private final long seed;
+    private final AtomicInteger threadSlots = new AtomicInteger();
+    private final ThreadLocal<ThreadSequence> threadSequence;
+    private final AtomicLong lastTimeOrdered = new AtomicLong();
+    private final AtomicLong seededCounter = new AtomicLong();
+
+    private UniqueIdGenerator(Strategy strategy, String runPrefix, long seed) {
+        this.strategy = strategy;
+        this.runPrefix = runPrefix;
+        this.seed = seed;
+        this.threadSequence = ThreadLocal.withInitial(() -> {
+            int slot = threadSlots.getAndIncrement();
+            if (slot >= MAX_THREAD_SLOTS) {
+                // A wider slot would make ids ambiguous - the counter is the only variable-width part
+                throw new IllegalStateException("Sequence id generator ran out of thread slots (" + MAX_THREAD_SLOTS + ")");
+            }
+            return new ThreadSequence(slot);
+        });
+    }
+
+    /**
+     * Shared generator configured from id.* properties
+     */
+    public static UniqueIdGenerator getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    ApiConfig apiConfig = new ApiConfig();
+                    Strategy strategy = parseStrategy(System.getProperty(PROP_STRATEGY,
+                            apiConfig.getProperty(PROP_STRATEGY, "sequence")));
+                    String runPrefix = System.getProperty(PROP_RUN_PREFIX, apiConfig.getProperty(PROP_RUN_PREFIX, ""));
+                    long seed = Long.parseLong(System.getProperty(PROP_SEED, apiConfig.getProperty(PROP_SEED, "0")));
+                    instance = create(strategy, runPrefix.trim().isEmpty() ? randomRunPrefix() : runPrefix.trim(), seed);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Standalone generator, e.g. a seeded one for a reproducible dataset
+     */
+    public static UniqueIdGenerator create(Strategy strategy, String runPrefix, long seed) {
+        return new UniqueIdGenerator(strategy, runPrefix, seed);
+    }
+
+    /**
+     * Next id of the configured strategy
+     */
+    public String nextId() {
+        switch (strategy) {
+            case TIME_ORDERED:
+                return nextTimeOrderedId();
+            case SEEDED:
+                return nextSeededId();
+            case SEQUENCE:
+            default:
+                return nextSequenceId();
+        }
+    }
+
+    /**
+     * Next id with a caller prefix, e.g. nextId("TRAIN_")
+     */
+    public String nextId(String prefix) {
+        return prefix + nextId();
+    }
+
+    /**
+     * Run prefix + thread slot + counter - touches only thread-local state after the first call per thread
+     */
+    public String nextSequenceId() {
+        ThreadSequence sequence = threadSequence.get();
+        StringBuilder id = new StringBuilder(runPrefix.length() + THREAD_SLOT_LENGTH + SEQUENCE_MIN_LENGTH);
+        id.append(runPrefix);
+        appendBase36(id, sequence.slot, THREAD_SLOT_LENGTH);
+        appendBase36(id, ++sequence.counter, SEQUENCE_MIN_LENGTH);
+        return id.toString();
+    }
+
+    /**
+     * Time-ordered id: (millis << 12 | sub-ms counter) as fixed-width base36, then the run prefix
+     * More than 4096 ids in one millisecond borrow from the next millisecond, so order and uniqueness hold.
+     */
+    public String nextTimeOrderedId() {
+        long candidate = System.currentTimeMillis() << SUB_MILLIS_BITS;
+        long value;
+        while (true) {
+            long last = lastTimeOrdered.get();
+            value = Math.max(candidate, last + 1);
+            if (lastTimeOrdered.compareAndSet(last, value)) {
+                break;
+            }
+        }
+        StringBuilder id = new StringBuilder(TIME_ORDERED_LENGTH + runPrefix.length());
+        appendBase36(id, value, TIME_ORDERED_LENGTH);
+        return id.append(runPrefix).toString();
+    }
+
+    /**
+     * Deterministic id: a bijective 64-bit mix of (seed + counter), so ids never repeat within a run
+     * and the same seed yields the same sequence
+     */
+    public String nextSeededId() {
+        long value = mix64(seed * 0x9e3779b97f4a7c15L + seededCounter.incrementAndGet());
+        StringBuilder id = new StringBuilder(SEEDED_LENGTH);
+        appendBase36(id, value, SEEDED_LENGTH);
+        return id.toString();
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public String getRunPrefix() {
+        return runPrefix;
+    }
+
+    /**
+     * Unsigned base36, left padded with zeros to minLength
+     */
+    private static void appendBase36(StringBuilder target, long value, int minLength) {
+        char[] buffer = new char[13];
+        int position = buffer.length;
+        do {
+            buffer[--position] = DIGITS[(int) Long.remainderUnsigned(value, 36)];
+            value = Long.divideUnsigned(value, 36);
+        } while (value != 0);
+        for (int padding = minLength - (buffer.length - position); padding > 0; padding--) {
+            target.append('0');
+        }
+        target.append(buffer, position, buffer.length - position);
+    }
+
+    /**
+     * SplitMix64 finalizer - a bijection on 64-bit values
+     */
+    private static long mix64(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Run start second (base36) followed by random base36 characters
+     */
+    private static String randomRunPrefix() {
+        long startMillis = System.currentTimeMillis();
+        long entropy = mix64(System.nanoTime() ^ (ProcessHandle.current().pid() << 32) ^ startMillis);
+        StringBuilder prefix = new StringBuilder(8 + RUN_PREFIX_RANDOM_LENGTH);
+        appendBase36(prefix, startMillis / 1000, 1);
+        appendBase36(prefix, Long.remainderUnsigned(entropy, 36L * 36 * 36 * 36), RUN_PREFIX_RANDOM_LENGTH);
+        return prefix.toString();
+    }
+
+    private static Strategy parseStrategy(String value) {
+        switch (value.trim().toLowerCase()) {
+            case "sequence":
+                return Strategy.SEQUENCE;
+            case "time_ordered":
+            case "time-ordered":
+                return Strategy.TIME_ORDERED;
+            case "seeded":
+                return Strategy.SEEDED;
+            default:
+                throw new IllegalArgumentException("Unknown id generator strategy: " + value +
+                                                   ". Available strategies: sequence, time_ordered, seeded");
+        }
+    }
+
+    /**
+     * Per-thread slot and counter - only ever touched by its own thread
+     */
+    private static final class ThreadSequence {
+        private final int slot;
+        private long counter;
+
+        private ThreadSequence(int slot) {
+            this.slot = slot;
+        }
+    }
+}
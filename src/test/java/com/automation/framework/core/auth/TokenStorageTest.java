@@ -0,0 +1,139 @@
+package com.automation.framework.core.auth;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Offline tests for TokenStorage - expiry, replacement, eviction and counters on a manual clock
+ */
+public class TokenStorageTest {
+
+    private static final long MINUTE_MS = 60 * 1000L;
+    private static final long START_MS = 1_700_000_000_000L;
+
+    private AtomicLong clock;
+
+    @BeforeMethod
+    public void resetClock() {
+        clock = new AtomicLong(START_MS);
+    }
+
+    private TokenStorage newStorage(int maxEntries, long expiryMs) {
+        return new TokenStorage(maxEntries, expiryMs, clock::get);
+    }
+
+    @Test
+    public void wheelExpiresIdleTokensWithoutReads() {
+        TokenStorage storage = newStorage(100, 2 * MINUTE_MS);
+        storage.storeToken("user1", "token1", "cookie1");
+        storage.storeToken("user2", "token2", "cookie2", START_MS + 10 * MINUTE_MS);
+
+        clock.addAndGet(3 * MINUTE_MS);
+
+        assertEquals(storage.getStoredUserCount(), 1);
+        assertEquals(storage.getStoredUserIds().iterator().next(), "user2");
+        TokenStorage.Stats stats = storage.getStats();
+        assertEquals(stats.getExpirations(), 1);
+        assertEquals(stats.getMisses(), 0);
+    }
+
+    @Test
+    public void readDropsExpiredTokenBeforeWheelReachesIt() {
+        TokenStorage storage = newStorage(100, MINUTE_MS);
+        storage.storeToken("user1", "token1", "cookie1");
+
+        clock.addAndGet(MINUTE_MS);
+
+        assertNull(storage.getAccessToken("user1"));
+        assertFalse(storage.hasValidToken("user1"));
+        TokenStorage.Stats stats = storage.getStats();
+        assertEquals(stats.getExpirations(), 1);
+        assertEquals(stats.getMisses(), 2);
+        assertEquals(stats.getSize(), 0);
+    }
+
+    @Test
+    public void replaceSwapsTokenAndCookieTogether() {
+        TokenStorage storage = newStorage(100, 2 * MINUTE_MS);
+        storage.storeToken("user1", "token1", "cookie1");
+        clock.addAndGet(MINUTE_MS);
+        storage.storeToken("user1", "token2", null);
+
+        assertEquals(storage.getAccessToken("user1"), "token2");
+        assertNull(storage.getCookie("user1"));
+        assertEquals(storage.getAuthHeader("user1"), "Bearer token2");
+
+        // The first token's expiry slot passes - the replacement must survive it
+        clock.addAndGet(MINUTE_MS + MINUTE_MS / 2);
+        assertEquals(storage.getStoredUserCount(), 1);
+        assertEquals(storage.getAccessToken("user1"), "token2");
+
+        clock.addAndGet(MINUTE_MS);
+        assertEquals(storage.getStoredUserCount(), 0);
+        assertEquals(storage.getStats().getExpirations(), 1);
+    }
+
+    @Test
+    public void evictsRecordNotReadSinceLastPass() {
+        TokenStorage storage = newStorage(3, 60 * MINUTE_MS);
+        storage.storeToken("user1", "token1", "cookie1");
+        storage.storeToken("user2", "token2", "cookie2");
+        storage.storeToken("user3", "token3", "cookie3");
+
+        // First overflow: every record is still marked from its store, so the oldest goes after one pass
+        storage.storeToken("user4", "token4", "cookie4");
+        assertFalse(storage.hasValidToken("user1"));
+
+        // user2 and user4 are read, user3 is not - user3 is the victim of the next overflow
+        assertTrue(storage.hasValidToken("user2"));
+        assertTrue(storage.hasValidToken("user4"));
+        storage.storeToken("user5", "token5", "cookie5");
+
+        assertFalse(storage.hasValidToken("user3"));
+        assertTrue(storage.hasValidToken("user2"));
+        assertTrue(storage.hasValidToken("user4"));
+        assertTrue(storage.hasValidToken("user5"));
+        assertEquals(storage.getStoredUserCount(), 3);
+        assertEquals(storage.getStats().getEvictions(), 2);
+    }
+
+    @Test
+    public void repeatedRefreshesKeepStoreBounded() {
+        TokenStorage storage = newStorage(2, 60 * MINUTE_MS);
+        for (int i = 0; i < 1000; i++) {
+            storage.storeToken("user" + (i % 3), "token" + i, null);
+        }
+        assertEquals(storage.getStoredUserCount(), 2);
+        assertEquals(storage.getStats().getEvictions(), 998);
+    }
+
+    @Test
+    public void countsHitsMissesAndClears() {
+        TokenStorage storage = newStorage(100, 60 * MINUTE_MS);
+        storage.storeToken("user1", "token1", "cookie1");
+        storage.storeToken(" ", "ignored", "ignored");
+
+        assertEquals(storage.getAccessToken("user1"), "token1");
+        assertEquals(storage.getCookie("user1"), "cookie1");
+        assertNull(storage.getAccessToken("unknown"));
+        storage.removeToken("user1");
+        assertNull(storage.getCookie("user1"));
+
+        TokenStorage.Stats stats = storage.getStats();
+        assertEquals(stats.getHits(), 2);
+        assertEquals(stats.getMisses(), 2);
+        assertEquals(stats.getSize(), 0);
+
+        storage.storeToken("user2", "token2", null);
+        storage.clearAllTokens();
+        assertEquals(storage.getStoredUserCount(), 0);
+        assertFalse(storage.hasValidToken("user2"));
+    }
+}
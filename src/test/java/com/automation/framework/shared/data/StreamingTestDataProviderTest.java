@@ -0,0 +1,91 @@
+package com.automation.framework.shared.data;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Offline tests for the CSV and JSONL cursors of StreamingTestDataProvider
+ */
+public class StreamingTestDataProviderTest {
+
+    private static StreamingTestDataProvider csv(String content) throws IOException {
+        return load(StreamingTestDataProvider.Format.CSV, ".csv", content);
+    }
+
+    private static StreamingTestDataProvider load(StreamingTestDataProvider.Format format, String suffix,
+                                                  String content) throws IOException {
+        Path file = Files.createTempFile("streaming-test-data", suffix);
+        file.toFile().deleteOnExit();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        StreamingTestDataProvider provider = new StreamingTestDataProvider(format);
+        provider.loadTestData(file.toString());
+        return provider;
+    }
+
+    @Test
+    public void quotedFieldsKeepCommasAndEscapedQuotes() throws IOException {
+        StreamingTestDataProvider provider = csv("id,name,note\n1,\"Doe, Jane\",\"say \"\"hi\"\"\"\n");
+
+        Map<String, Object> record = provider.getTestDataForCase("1");
+        assertEquals(record.get("name"), "Doe, Jane");
+        assertEquals(record.get("note"), "say \"hi\"");
+    }
+
+    @Test
+    public void quotedFieldsKeepEmbeddedLineBreaksAndRowsEndOnCrlf() throws IOException {
+        StreamingTestDataProvider provider = csv("id,address\r\n1,\"line one\r\nline two\"\r\n2,plain\r\n");
+
+        Map<String, Object> all = provider.getAllTestData();
+        assertEquals(all.size(), 2);
+        assertEquals(((Map<?, ?>) all.get("1")).get("address"), "line one\r\nline two");
+        assertEquals(((Map<?, ?>) all.get("2")).get("address"), "plain");
+    }
+
+    @Test
+    public void byteOrderMarkIsStrippedFromFirstHeader() throws IOException {
+        StreamingTestDataProvider provider = csv("\uFEFFid,value\nA,1\n");
+
+        assertEquals(provider.getTestDataForCase("A").get("value"), "1");
+    }
+
+    @Test
+    public void dottedHeadersBuildNestedObjectsAndEmptyCellsStayUnset() throws IOException {
+        StreamingTestDataProvider provider = csv("id,userDetail.email,userDetail.phone,amount\n1,a@b.com,,100\n\n");
+
+        Map<String, Object> record = provider.getTestDataForCase("1");
+        Map<?, ?> userDetail = (Map<?, ?>) record.get("userDetail");
+        assertEquals(userDetail.get("email"), "a@b.com");
+        assertFalse(userDetail.containsKey("phone"));
+        assertEquals(record.get("amount"), "100");
+        assertEquals(provider.getAllTestData().size(), 1);
+    }
+
+    @Test
+    public void cursorHandsOutEveryRecordOnceAcrossBatches() throws IOException {
+        StreamingTestDataProvider provider = load(StreamingTestDataProvider.Format.JSONL, ".jsonl",
+                "{\"id\":\"a\",\"n\":1}\n\n{\"id\":\"b\",\"n\":2}\n{\"id\":\"c\",\"n\":3}\n");
+
+        try (RecordCursor<Map<String, Object>> cursor = provider.openCursor(new TypeReference<Map<String, Object>>() {
+        })) {
+            List<Map<String, Object>> first = cursor.nextBatch(2);
+            assertEquals(first.size(), 2);
+            assertEquals(first.get(1).get("id"), "b");
+            assertEquals(cursor.next().get("n"), 3);
+            assertTrue(cursor.nextBatch(2).isEmpty());
+            assertNull(cursor.next());
+            assertEquals(cursor.getPosition(), 3);
+        }
+    }
+}
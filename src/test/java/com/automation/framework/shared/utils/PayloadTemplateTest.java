@@ -0,0 +1,119 @@
+package com.automation.framework.shared.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Offline tests for PayloadTemplate - placeholder compilation and UTF-8 / JSON string escaping
+ */
+public class PayloadTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Strict UTF-8 decode - fails on malformed sequences instead of substituting
+     */
+    private static String decodeStrict(ByteBuffer bytes) throws CharacterCodingException {
+        return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(bytes)
+                .toString();
+    }
+
+    private static Map<String, Object> record(String field, Object value) {
+        Map<String, Object> record = new HashMap<>();
+        record.put(field, value);
+        return record;
+    }
+
+    @Test
+    public void wholeValueReferencesKeepJsonTypes() throws IOException {
+        PayloadTemplate template = PayloadTemplate.compile(
+                "{\"amount\":\"#{amount}\",\"paid\":\"#{paid}\",\"user\":\"#{user}\",\"note\":\"#{note}\"}");
+        Map<String, Object> record = new HashMap<>();
+        record.put("amount", 100);
+        record.put("paid", true);
+        record.put("user", Collections.singletonMap("email", "a@b.com"));
+        record.put("note", null);
+
+        JsonNode body = objectMapper.readTree(template.render(record));
+        assertTrue(body.get("amount").isInt());
+        assertEquals(body.get("amount").intValue(), 100);
+        assertTrue(body.get("paid").isBoolean());
+        assertEquals(body.get("user").get("email").textValue(), "a@b.com");
+        assertTrue(body.get("note").isNull());
+    }
+
+    @Test
+    public void nestedReferencesResolveAgainstJsonNodeRecords() throws IOException {
+        JsonNode data = objectMapper.readTree("{\"userDetail\":{\"email\":\"a@b.com\",\"age\":30}}");
+        PayloadTemplate template = PayloadTemplate.compile(
+                "{\"to\":\"mail:#{userDetail.email}\",\"age\":\"#{userDetail.age}\",\"n\":\"#{seq}\"}");
+
+        JsonNode first = objectMapper.readTree(template.render(data));
+        JsonNode second = objectMapper.readTree(template.render(data));
+        assertEquals(first.get("to").textValue(), "mail:a@b.com");
+        assertEquals(first.get("age").intValue(), 30);
+        assertEquals(first.get("n").textValue(), "1");
+        assertEquals(second.get("n").textValue(), "2");
+    }
+
+    @Test
+    public void embeddedTextEscapesQuotesBackslashesAndControlCharacters() throws IOException {
+        String value = "say \"hi\" \\ tab\t nl\n cr\r bell\u0007 nul\u0000 \u00e9";
+        PayloadTemplate template = PayloadTemplate.compile("{\"text\":\"<#{value}>\"}");
+
+        String rendered = template.render(record("value", value));
+        assertTrue(rendered.contains("\\u0007"));
+        assertTrue(rendered.contains("\\u0000"));
+        assertTrue(rendered.contains("\\t"));
+        assertEquals(objectMapper.readTree(rendered).get("text").textValue(), "<" + value + ">");
+    }
+
+    @Test
+    public void surrogatePairsAreEncodedAsFourByteUtf8() throws IOException {
+        String emoji = "\uD83D\uDE00";
+        PayloadTemplate template = PayloadTemplate.compile("{\"text\":\"x#{value}\"}");
+
+        ByteBuffer rendered = template.renderToBuffer(record("value", emoji));
+        String decoded = decodeStrict(rendered.duplicate());
+        assertFalse(decoded.contains("\\u"));
+        assertEquals(objectMapper.readTree(decoded).get("text").textValue(), "x" + emoji);
+        assertEquals(rendered.remaining(), "{\"text\":\"x\"}".length() + 4);
+    }
+
+    @Test
+    public void loneSurrogatesAreWrittenAsUnicodeEscapes() throws IOException {
+        String value = "a\uD83Db\uDE00c\uD83D";
+        PayloadTemplate template = PayloadTemplate.compile("{\"text\":\"x#{value}\"}");
+
+        String decoded = decodeStrict(template.renderToBuffer(record("value", value)));
+        assertEquals(decoded, "{\"text\":\"xa\\ud83db\\ude00c\\ud83d\"}");
+        assertEquals(objectMapper.readTree(decoded).get("text").textValue(), "x" + value);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void missingFieldIsRejected() {
+        PayloadTemplate.compile("{\"text\":\"#{absent}\"}").render(record("present", 1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidJsonTemplateIsRejected() {
+        PayloadTemplate.compile("{\"text\":#{value}}");
+    }
+}
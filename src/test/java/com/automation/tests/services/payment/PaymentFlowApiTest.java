@@ -2,16 +2,15 @@ package com.automation.tests.services.payment;
 
 import com.automation.framework.core.base.BaseApiTest;
 import com.automation.framework.services.payment.endpoints.PaymentEndpoints;
-import com.automation.framework.services.payment.models.PaymentFormRequest;
 import com.automation.framework.services.payment.models.PaymentFormResponse;
 import com.automation.framework.shared.utils.HttpMethod;
+import com.automation.framework.shared.utils.PayloadTemplate;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Payment Flow API Tests
@@ -21,6 +20,8 @@ public class PaymentFlowApiTest extends BaseApiTest {
 
     private static final String TEST_DATA_KEY = "testPaymentFlow";
     private String paymentTransactionId;
+    private JsonNode paymentFormData;
+    private PayloadTemplate paymentFormTemplate;
 
     @Override
     public String getTestSuiteName() {
@@ -49,14 +50,8 @@ public class PaymentFlowApiTest extends BaseApiTest {
     }
 
     private void createPaymentTransaction() throws Exception {
-        // Load test data
-        Object testDataObj = testDataProvider.getTestData(TEST_DATA_KEY);
-        JsonNode testData = objectMapper.valueToTree(testDataObj);
-        JsonNode paymentFormData = testData.get("paymentFormRequest");
-        
-        // Create request payload with dynamic product transaction ID
-        PaymentFormRequest request = createPaymentFormRequest(paymentFormData);
-        String requestBody = objectMapper.writeValueAsString(request);
+        // Create request payload with dynamic product transaction ID (#{randomId} in the test data)
+        String requestBody = paymentFormTemplate.render(paymentFormData);
         
         // Make API call
         Response response = makeApiCall(
@@ -106,56 +101,6 @@ public class PaymentFlowApiTest extends BaseApiTest {
         });
     }
 
-    private PaymentFormRequest createPaymentFormRequest(JsonNode testData) {
-        PaymentFormRequest request = new PaymentFormRequest();
-        
-        // Generate unique product transaction ID
-        String uniqueId = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        String productTxnId = testData.get("productTransactionId").asText()
-            .replace("#{randomId}", uniqueId);
-        
-        request.setProductTransactionId(productTxnId);
-        request.setProductType(testData.get("productType").asText());
-        request.setPlatform(testData.get("platform").asText());
-        request.setClientId(testData.get("clientId").asText());
-        request.setProductInfo(testData.get("productInfo").asText());
-        request.setVersion(testData.get("version").asInt());
-        
-        // Set user details
-        PaymentFormRequest.UserDetail userDetail = new PaymentFormRequest.UserDetail();
-        JsonNode userNode = testData.get("userDetail");
-        userDetail.setEmail(userNode.get("email").asText());
-        userDetail.setFirstName(userNode.get("firstName").asText());
-        userDetail.setLastName(userNode.get("lastName").asText());
-        userDetail.setMobile(userNode.get("mobile").asText());
-        userDetail.setUserId(userNode.get("userId").asText());
-        request.setUserDetail(userDetail);
-        
-        // Set fare details
-        PaymentFormRequest.FareDetail fareDetail = new PaymentFormRequest.FareDetail();
-        JsonNode fareNode = testData.get("fareDetail");
-        fareDetail.setPaymentAmount(fareNode.get("paymentAmount").asText());
-        fareDetail.setIxiMoneyBurnAmount(fareNode.get("ixiMoneyBurnAmount").asText());
-        fareDetail.setIxiMoneyPremiumBurnAmount(fareNode.get("ixiMoneyPremiumBurnAmount").asText());
-        fareDetail.setIxigoServiceCharge(fareNode.get("ixigoServiceCharge").asText());
-        fareDetail.setPgCharge(fareNode.get("pgCharge").asText());
-        fareDetail.setBookingClass(fareNode.get("bookingClass").asText());
-        fareDetail.setAllInclusiveFare(fareNode.get("allInclusiveFare").asText());
-        request.setFareDetail(fareDetail);
-        
-        // Set transaction details
-        PaymentFormRequest.TransactionDetail transactionDetail = new PaymentFormRequest.TransactionDetail();
-        JsonNode txnNode = testData.get("transactionDetail");
-        transactionDetail.setStartTime(txnNode.get("startTime").asText());
-        transactionDetail.setExpiryTime(txnNode.get("expiryTime").asText());
-        transactionDetail.setExpiryActionUrl(txnNode.get("expiryActionUrl").asText());
-        transactionDetail.setExpiryTitle(txnNode.get("expiryTitle").asText());
-        transactionDetail.setExpiryMessage(txnNode.get("expiryMessage").asText());
-        request.setTransactionDetail(transactionDetail);
-        
-        return request;
-    }
-
     private void validatePaymentFormResponse(PaymentFormResponse response) {
         if (response.getData() == null) {
             throwAssertionError("Response data is null");
@@ -201,6 +146,11 @@ public class PaymentFlowApiTest extends BaseApiTest {
         testLogger.logInfo("Setting up Payment Flow API Tests");
         // Load test data to verify it exists
         testDataProvider.loadTestData("src/test/resources/testData/paymentFlowTestData.json");
+        
+        // Compile the request template once - each call only renders it
+        JsonNode testData = objectMapper.valueToTree(testDataProvider.getTestData(TEST_DATA_KEY));
+        paymentFormData = testData.get("paymentFormRequest");
+        paymentFormTemplate = PayloadTemplate.compile(paymentFormData);
     }
 
     @Override